@@ -0,0 +1,76 @@
+package com.attendance.config;
+
+import com.attendance.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single auto-configured data source with one pool per shard behind a
+ * {@link ShardRoutingDataSource}. Every shard gets the schema from {@code db/shard-schema.sql}
+ * before JPA starts, and attendance ids are offset per shard so they stay globally unique.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "attendance.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    // Shard n allocates attendance and snapshot ids from n * ID_BLOCK
+    private static final long ID_BLOCK = 1_000_000_000_000L;
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(ShardingProperties properties) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("attendance.sharding.enabled is set but no attendance.sharding.shards are configured");
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shards.get(shard).getUrl())
+                    .username(shards.get(shard).getUsername())
+                    .password(shards.get(shard).getPassword())
+                    .build();
+            dataSource.setPoolName("shard-" + shard);
+            dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+            initializeSchema(shard, dataSource);
+            targets.put(shard, dataSource);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(0));
+        routing.afterPropertiesSet();
+        log.info("Configured {} attendance shards", shards.size());
+        return routing;
+    }
+
+    private void initializeSchema(int shard, DataSource dataSource) {
+        new ResourceDatabasePopulator(new ClassPathResource("db/shard-schema.sql")).execute(dataSource);
+        if (shard == 0) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String table : List.of("attendance", "attendance_snapshots")) {
+            jdbcTemplate.queryForObject(
+                    "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " +
+                    "GREATEST(COALESCE((SELECT MAX(id) FROM " + table + "), 0), ?))",
+                    Long.class, shard * ID_BLOCK);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.attendance.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Attendance shards under {@code attendance.sharding}. Shard 0 also holds the authoritative
+ * employee table and closed-period markers; shards may be appended but not reordered, as
+ * the hash ring is keyed by position.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "attendance.sharding")
+public class ShardingProperties {
+    private boolean enabled = false;
+    private int virtualNodes = 128;
+    private int maximumPoolSize = 10;
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,21 @@
+package com.attendance.config;
+
+import com.attendance.dto.ShiftRule;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shift policies loaded at startup from {@code attendance.shift-policies}. Departments
+ * without an entry use {@code defaults}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "attendance.shift-policies")
+public class ShiftPolicyProperties {
+    private ShiftRule defaults = new ShiftRule();
+    private Map<String, ShiftRule> departments = new HashMap<>();
+}
@@ -0,0 +1,34 @@
+package com.attendance.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.attendance.dto.LatenessReportResponse;
+import com.attendance.service.LatenessAnalyticsService;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final LatenessAnalyticsService latenessAnalyticsService;
+
+    public AnalyticsController(LatenessAnalyticsService latenessAnalyticsService) {
+        this.latenessAnalyticsService = latenessAnalyticsService;
+    }
+
+    @GetMapping("/lateness")
+    public ResponseEntity<List<LatenessReportResponse>> getLatenessReport(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate toDate) {
+
+        return ResponseEntity.ok(latenessAnalyticsService.getReport(department, fromDate, toDate));
+    }
+}
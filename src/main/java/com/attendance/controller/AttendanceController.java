@@ -14,6 +14,10 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.attendance.dto.AttendanceResponse;
 import com.attendance.dto.AttendanceSummaryResponse;
+import com.attendance.enums.AttendanceEvent;
+import com.attendance.enums.SummaryView;
+import com.attendance.exception.BadRequestException;
+import com.attendance.exception.InvalidAttendanceException;
 import com.attendance.service.AttendanceService;
 
 @RestController
@@ -32,7 +36,12 @@ public class AttendanceController {
             @PathVariable String event,
             @RequestParam(required = false) String remarks) {
 
-        AttendanceResponse response = attendanceService.markAttendance(employeeId, event, remarks);
+        // Resolved here, before the service opens a transaction, so an invalid event never checks out a connection
+        AttendanceEvent action = AttendanceEvent.fromName(event);
+        if (action == null) {
+            throw InvalidAttendanceException.INVALID_EVENT;
+        }
+        AttendanceResponse response = attendanceService.markAttendance(employeeId, action, remarks);
         return ResponseEntity.ok(response);
     }
 
@@ -40,8 +49,13 @@ public class AttendanceController {
     public ResponseEntity<AttendanceSummaryResponse> getAttendanceSummary(
             @PathVariable Long employeeId,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate fromDate,
-            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate toDate) {
-        
-        return ResponseEntity.ok(attendanceService.getAttendanceForDuration(employeeId, fromDate, toDate));
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate toDate,
+            @RequestParam(required = false) String view) {
+
+        SummaryView summaryView = SummaryView.fromParam(view);
+        if (summaryView == null) {
+            throw new BadRequestException("Invalid view '" + view + "'. Must be either slim or full");
+        }
+        return ResponseEntity.ok(attendanceService.getAttendanceForDuration(employeeId, fromDate, toDate, summaryView));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.attendance.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.attendance.exception.BadRequestException;
+import com.attendance.service.PunchExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private final PunchExportService punchExportService;
+
+    public ExportController(PunchExportService punchExportService) {
+        this.punchExportService = punchExportService;
+    }
+
+    /**
+     * Writes the export on the request thread rather than as an async StreamingResponseBody,
+     * so a full-period export is not cut off by the servlet container's async request timeout.
+     */
+    @GetMapping("/punches")
+    public void exportPunches(
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate fromDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate toDate,
+            @RequestParam(required = false) String department,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+
+        if (fromDate.isAfter(toDate)) {
+            throw new BadRequestException("fromDate must not be after toDate");
+        }
+
+        String fileName = "punches-" + fromDate + "-" + toDate + (gzip ? ".csv.gz" : ".csv");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setContentType(gzip ? "application/gzip" : "text/csv");
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024);
+            punchExportService.writeCsv(fromDate, toDate, department, gzipOut);
+            gzipOut.finish();
+        } else {
+            punchExportService.writeCsv(fromDate, toDate, department, out);
+        }
+        out.flush();
+    }
+}
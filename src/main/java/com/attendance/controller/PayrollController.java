@@ -0,0 +1,47 @@
+package com.attendance.controller;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.attendance.dto.PeriodCloseResponse;
+import com.attendance.exception.BadRequestException;
+import com.attendance.service.PayrollPeriodService;
+
+@RestController
+@RequestMapping("/api/payroll/periods")
+public class PayrollController {
+
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final PayrollPeriodService payrollPeriodService;
+
+    public PayrollController(PayrollPeriodService payrollPeriodService) {
+        this.payrollPeriodService = payrollPeriodService;
+    }
+
+    @PostMapping("/{period}/close")
+    public ResponseEntity<PeriodCloseResponse> closePeriod(@PathVariable String period) {
+        return ResponseEntity.ok(payrollPeriodService.closePeriod(parsePeriod(period)));
+    }
+
+    @PostMapping("/{period}/reopen")
+    public ResponseEntity<Void> reopenPeriod(@PathVariable String period) {
+        payrollPeriodService.reopenPeriod(parsePeriod(period));
+        return ResponseEntity.noContent().build();
+    }
+
+    private YearMonth parsePeriod(String period) {
+        try {
+            return YearMonth.parse(period, PERIOD_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid period '" + period + "'. Expected format yyyyMM");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.attendance.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.attendance.dto.ShiftPolicyRequest;
+import com.attendance.service.ShiftPolicyRegistry;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/shift-policies")
+public class ShiftPolicyController {
+
+    private final ShiftPolicyRegistry shiftPolicyRegistry;
+
+    public ShiftPolicyController(ShiftPolicyRegistry shiftPolicyRegistry) {
+        this.shiftPolicyRegistry = shiftPolicyRegistry;
+    }
+
+    @PutMapping
+    public ResponseEntity<Void> replacePolicies(@Valid @RequestBody ShiftPolicyRequest request) {
+        shiftPolicyRegistry.replace(request.getDefaults(), request.getDepartments());
+        return ResponseEntity.noContent().build();
+    }
+}
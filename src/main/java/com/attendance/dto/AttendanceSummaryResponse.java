@@ -1,5 +1,6 @@
 package com.attendance.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -20,6 +21,8 @@ public class AttendanceSummaryResponse {
     @Builder
     public static class DailyAttendanceSummary {
         private LocalDate date;
+        // Left null, and omitted from the payload, for the slim view
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private List<AttendanceResponse> attendances;
         private boolean isWorkingDay;
         private boolean isHoliday;
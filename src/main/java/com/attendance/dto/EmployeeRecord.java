@@ -0,0 +1,7 @@
+package com.attendance.dto;
+
+/**
+ * Compact, immutable view of an employee held by the in-memory employee directory.
+ */
+public record EmployeeRecord(long id, String name, String department) {
+}
@@ -0,0 +1,37 @@
+package com.attendance.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class LatenessReportResponse {
+    private String department;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    // Histogram bucket i covers offsets [histogramStartMinutes + i * binMinutes, +binMinutes); the outer buckets also hold overflow
+    private int histogramStartMinutes;
+    private int binMinutes;
+    private int[] arrivalHistogram;
+    private int[] departureHistogram;
+    private int arrivals;
+    private int lateArrivals;
+    private double averageArrivalOffsetMinutes;
+    private int departures;
+    private int earlyDepartures;
+    private double averageDepartureOffsetMinutes;
+    private List<DailyLateness> days;
+
+    @Data
+    @Builder
+    public static class DailyLateness {
+        private LocalDate date;
+        private int arrivals;
+        private int lateArrivals;
+        private int departures;
+        private int earlyDepartures;
+    }
+}
@@ -0,0 +1,16 @@
+package com.attendance.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class PeriodCloseResponse {
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private int employeeCount;
+    private long snapshotBytes;
+    private long elapsedMillis;
+}
@@ -0,0 +1,11 @@
+package com.attendance.dto;
+
+import com.attendance.enums.AttendanceEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight read-only view of a punch for bulk scans that do not need managed entities.
+ */
+public record PunchRow(Long employeeId, String department, LocalDateTime timestamp, AttendanceEvent action) {
+}
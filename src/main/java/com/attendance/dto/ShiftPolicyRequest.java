@@ -0,0 +1,17 @@
+package com.attendance.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+public class ShiftPolicyRequest {
+    @Valid
+    @NotNull(message = "Default shift rule is required")
+    private ShiftRule defaults = new ShiftRule();
+
+    private Map<String, @Valid ShiftRule> departments = new HashMap<>();
+}
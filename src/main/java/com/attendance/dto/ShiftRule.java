@@ -0,0 +1,31 @@
+package com.attendance.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalTime;
+
+/**
+ * Shift window, overtime threshold and break rule for one department, as configured or
+ * submitted; compiled into a {@code ShiftPolicy} before use.
+ */
+@Data
+public class ShiftRule {
+    @NotNull(message = "Shift start is required")
+    private LocalTime shiftStart = LocalTime.of(9, 0);
+
+    @NotNull(message = "Shift end is required")
+    private LocalTime shiftEnd = LocalTime.of(17, 0);
+
+    // Time worked after this counts as overtime
+    @NotNull(message = "Overtime threshold is required")
+    private LocalTime overtimeAfter = LocalTime.of(18, 0);
+
+    // Unpaid break deducted once a day's worked time exceeds breakAfterMinutes
+    @Min(value = 0, message = "Break minutes must not be negative")
+    private int breakMinutes = 0;
+
+    @Min(value = 0, message = "Break threshold must not be negative")
+    private int breakAfterMinutes = 360;
+}
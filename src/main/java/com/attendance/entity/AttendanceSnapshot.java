@@ -0,0 +1,44 @@
+package com.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Rows are written once when a period closes and only ever removed by a reopen
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "attendance_snapshots", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"employee_id", "period_start"}, name = "uk_snapshot_employee_period")
+}, indexes = {
+    @Index(name = "idx_snapshot_period", columnList = "period_start")
+})
+public class AttendanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false, updatable = false)
+    private Long employeeId;
+
+    @Column(name = "period_start", nullable = false, updatable = false)
+    private LocalDate periodStart;
+
+    // Gzipped output of AttendanceSnapshotCodec
+    @Column(nullable = false, updatable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public AttendanceSnapshot(Long employeeId, LocalDate periodStart, byte[] payload) {
+        this.employeeId = employeeId;
+        this.periodStart = periodStart;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,37 @@
+package com.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "closed_periods", uniqueConstraints = {
+    @UniqueConstraint(columnNames = "period_start", name = "uk_closed_period_start")
+})
+public class ClosedPeriod {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // First day of the closed calendar month
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "employee_count", nullable = false)
+    private int employeeCount;
+
+    @CreationTimestamp
+    @Column(name = "closed_at", nullable = false, updatable = false)
+    private LocalDateTime closedAt;
+
+    public ClosedPeriod(LocalDate periodStart, int employeeCount) {
+        this.periodStart = periodStart;
+        this.employeeCount = employeeCount;
+    }
+}
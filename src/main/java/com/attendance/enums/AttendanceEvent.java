@@ -2,14 +2,34 @@ package com.attendance.enums;
 
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter
 public enum AttendanceEvent {
     PUNCH_IN("Have a great day."),
     PUNCH_OUT("Thank you for your work.");
 
+    private static final Map<String, AttendanceEvent> BY_NAME = new HashMap<>();
+
+    static {
+        for (AttendanceEvent event : values()) {
+            BY_NAME.put(event.name(), event);
+        }
+    }
+
     private final String message;
 
     AttendanceEvent(String message) {
         this.message = message;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Resolves an event name without throwing, so invalid input from devices stays cheap.
+     *
+     * @return the matching event, or {@code null} if the name is unknown
+     */
+    public static AttendanceEvent fromName(String name) {
+        return name != null ? BY_NAME.get(name) : null;
+    }
+}
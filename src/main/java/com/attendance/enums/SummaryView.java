@@ -0,0 +1,24 @@
+package com.attendance.enums;
+
+import java.util.Locale;
+
+public enum SummaryView {
+    /** Daily and total figures only, without the per-punch lists. */
+    SLIM,
+    /** Daily figures including every punch of the day. */
+    FULL;
+
+    public static SummaryView fromParam(String view) {
+        if (view == null || view.isBlank()) {
+            return FULL;
+        }
+        switch (view.trim().toLowerCase(Locale.ROOT)) {
+            case "slim":
+                return SLIM;
+            case "full":
+                return FULL;
+            default:
+                return null;
+        }
+    }
+}
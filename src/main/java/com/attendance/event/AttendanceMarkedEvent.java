@@ -0,0 +1,19 @@
+package com.attendance.event;
+
+import com.attendance.enums.AttendanceEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@code markAttendance} for every stored punch; listeners that keep derived
+ * state should react after the surrounding transaction commits.
+ *
+ * @param firstOfDay true when this is the employee's first punch of the day
+ */
+public record AttendanceMarkedEvent(
+        Long employeeId,
+        String department,
+        LocalDateTime timestamp,
+        AttendanceEvent action,
+        boolean firstOfDay) {
+}
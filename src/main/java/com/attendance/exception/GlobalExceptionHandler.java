@@ -21,6 +21,9 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    // Rejected punches (mostly device double-taps) are routine, so only a sample is logged
+    private final RejectionLogLimiter rejectionLogLimiter = new RejectionLogLimiter(10);
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, HttpServletRequest request) {
@@ -54,7 +57,40 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(InvalidAttendanceException.class)
     public ResponseEntity<ErrorResponse> handleInvalidAttendanceException(
             InvalidAttendanceException ex, HttpServletRequest request) {
-        log.error("Invalid attendance: {}", ex.getMessage());
+        long suppressed = rejectionLogLimiter.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("Invalid attendance: {} ({} similar rejections suppressed)", ex.getMessage(), suppressed);
+        }
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .traceId(request.getHeader("X-Trace-Id"))
+                .build();
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidShiftPolicyException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidShiftPolicyException(
+            InvalidShiftPolicyException ex, HttpServletRequest request) {
+        log.error("Invalid shift policy: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .traceId(request.getHeader("X-Trace-Id"))
+                .build();
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(
+            BadRequestException ex, HttpServletRequest request) {
+        log.error("Bad request: {}", ex.getMessage());
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
@@ -1,7 +1,21 @@
 package com.attendance.exception;
 
+/**
+ * Rejection of a punch or attendance request. These are expected, frequent outcomes rather
+ * than faults, so no stack trace is captured and the common cases are shared instances.
+ */
 public class InvalidAttendanceException extends RuntimeException {
+
+    public static final InvalidAttendanceException INVALID_EVENT =
+            new InvalidAttendanceException("Invalid event type. Must be either PUNCH_IN or PUNCH_OUT");
+    public static final InvalidAttendanceException DOUBLE_PUNCH_IN =
+            new InvalidAttendanceException("Cannot punch in twice in a row. Last action was also PUNCH_IN");
+    public static final InvalidAttendanceException DOUBLE_PUNCH_OUT =
+            new InvalidAttendanceException("Cannot punch out twice in a row. Last action was also PUNCH_OUT");
+    public static final InvalidAttendanceException PUNCH_OUT_WITHOUT_PUNCH_IN =
+            new InvalidAttendanceException("Cannot punch out without a previous punch-in record");
+
     public InvalidAttendanceException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.attendance.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidShiftPolicyException extends RuntimeException {
+    public InvalidShiftPolicyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package com.attendance.exception;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps how many rejection log lines are written per second. Lines over the cap are counted
+ * and the count is reported with the next line that gets through.
+ */
+class RejectionLogLimiter {
+
+    private final int permitsPerSecond;
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    RejectionLogLimiter(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * @return -1 if this line should be dropped, otherwise the number of lines dropped since the last one logged
+     */
+    long tryAcquire() {
+        long second = System.currentTimeMillis() / 1000;
+        long previous = currentSecond.get();
+        if (second != previous && currentSecond.compareAndSet(previous, second)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() > permitsPerSecond) {
+            suppressed.incrementAndGet();
+            return -1;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,46 @@
+package com.attendance.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through one in {@code sampleRate} events at or below {@code level} for loggers under
+ * {@code loggerName}; more severe events always pass. Configured from logback-spring.xml.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String loggerName;
+    private Level level = Level.DEBUG;
+    private int sampleRate = 100;
+    private final AtomicLong counter = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, which are left alone so only real events are sampled
+        if (format == null || eventLevel == null || eventLevel.toInt() > level.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (loggerName == null || !logger.getName().startsWith(loggerName)
+                || eventLevel.toInt() < logger.getEffectiveLevel().toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.DEBUG);
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+}
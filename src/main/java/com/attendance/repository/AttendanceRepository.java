@@ -1,14 +1,19 @@
 package com.attendance.repository;
 
+import com.attendance.dto.PunchRow;
 import com.attendance.entity.Attendance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
@@ -27,4 +32,11 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
     List<Attendance> findByEmployeeId(Long employeeId);
     List<Attendance> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
+    List<Attendance> findByEmployeeIdAndDateOrderByTimestamp(Long employeeId, LocalDate date);
+
+    // Must be consumed inside a transaction and closed by the caller
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.attendance.dto.PunchRow(e.id, e.department, a.timestamp, a.action) " +
+           "FROM Attendance a JOIN a.employee e WHERE a.date >= :from ORDER BY e.id, a.timestamp")
+    Stream<PunchRow> streamPunchesSince(@Param("from") LocalDate from);
 } 
\ No newline at end of file
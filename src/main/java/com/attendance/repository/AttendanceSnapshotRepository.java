@@ -0,0 +1,20 @@
+package com.attendance.repository;
+
+import com.attendance.entity.AttendanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface AttendanceSnapshotRepository extends JpaRepository<AttendanceSnapshot, Long> {
+    Optional<AttendanceSnapshot> findByEmployeeIdAndPeriodStart(Long employeeId, LocalDate periodStart);
+
+    @Modifying
+    @Query("DELETE FROM AttendanceSnapshot s WHERE s.periodStart = :periodStart")
+    int deleteByPeriodStart(@Param("periodStart") LocalDate periodStart);
+}
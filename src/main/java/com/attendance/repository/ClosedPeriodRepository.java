@@ -0,0 +1,13 @@
+package com.attendance.repository;
+
+import com.attendance.entity.ClosedPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface ClosedPeriodRepository extends JpaRepository<ClosedPeriod, Long> {
+    boolean existsByPeriodStart(LocalDate periodStart);
+    void deleteByPeriodStart(LocalDate periodStart);
+}
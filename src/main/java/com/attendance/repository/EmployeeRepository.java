@@ -1,10 +1,26 @@
 package com.attendance.repository;
 
+import com.attendance.dto.EmployeeRecord;
 import com.attendance.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
  
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     boolean existsByEmail(String email);
+
+    // Must be consumed inside a transaction and closed by the caller
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.attendance.dto.EmployeeRecord(e.id, e.name, e.department) FROM Employee e")
+    Stream<EmployeeRecord> streamAllRecords();
+
+    @Query("SELECT e.id FROM Employee e ORDER BY e.id")
+    List<Long> findAllIds();
 } 
\ No newline at end of file
@@ -5,11 +5,13 @@ import java.util.List;
 
 import com.attendance.dto.AttendanceResponse;
 import com.attendance.dto.AttendanceSummaryResponse;
+import com.attendance.enums.AttendanceEvent;
+import com.attendance.enums.SummaryView;
 
 public interface AttendanceService {
-    AttendanceResponse markAttendance(Long employeeId, String event, String remarks);
+    AttendanceResponse markAttendance(Long employeeId, AttendanceEvent action, String remarks);
     
     List<AttendanceResponse> getAttendanceByEmployeeId(Long employeeId);
     
-    AttendanceSummaryResponse getAttendanceForDuration(Long employeeId, LocalDate fromDate, LocalDate toDate);
+    AttendanceSummaryResponse getAttendanceForDuration(Long employeeId, LocalDate fromDate, LocalDate toDate, SummaryView view);
 } 
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.attendance.service;
+
+import com.attendance.dto.AttendanceResponse;
+import com.attendance.dto.AttendanceSummaryResponse;
+import com.attendance.enums.AttendanceEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact gzipped binary form of a full-view {@link AttendanceSummaryResponse}, used for
+ * closed-period snapshots. Employee name is not stored; it is filled in from the live
+ * employee record when a snapshot is read.
+ */
+public final class AttendanceSnapshotCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int WORKING_DAY = 1;
+    private static final int HOLIDAY = 1 << 1;
+    private static final int WEEKEND = 1 << 2;
+    private static final AttendanceEvent[] EVENTS = AttendanceEvent.values();
+
+    private AttendanceSnapshotCodec() {
+    }
+
+    public static byte[] encode(AttendanceSummaryResponse summary) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(summary.getEmployeeId());
+            out.writeLong(summary.getFromDate().toEpochDay());
+            out.writeLong(summary.getToDate().toEpochDay());
+
+            AttendanceSummaryResponse.DurationSummary total = summary.getTotalSummary();
+            out.writeDouble(total.getTotalHours());
+            out.writeDouble(total.getTotalOvertimeHours());
+            out.writeInt(total.getTotalWorkingDays());
+            out.writeInt(total.getTotalHolidays());
+            out.writeInt(total.getTotalWeekends());
+
+            List<AttendanceSummaryResponse.DailyAttendanceSummary> days = new ArrayList<>(summary.getDailySummaries());
+            days.sort(Comparator.comparing(AttendanceSummaryResponse.DailyAttendanceSummary::getDate));
+            out.writeInt(days.size());
+            for (AttendanceSummaryResponse.DailyAttendanceSummary day : days) {
+                out.writeLong(day.getDate().toEpochDay());
+                out.writeByte((day.isWorkingDay() ? WORKING_DAY : 0)
+                        | (day.isHoliday() ? HOLIDAY : 0)
+                        | (day.isWeekend() ? WEEKEND : 0));
+                out.writeDouble(day.getTotalHours());
+                out.writeDouble(day.getOvertimeHours());
+                writeNullableString(out, day.getHolidayName());
+
+                List<AttendanceResponse> punches = day.getAttendances() != null ? day.getAttendances() : List.of();
+                out.writeInt(punches.size());
+                for (AttendanceResponse punch : punches) {
+                    out.writeLong(punch.getId());
+                    out.writeLong(punch.getTimestamp().toLocalDate().toEpochDay());
+                    out.writeLong(punch.getTimestamp().toLocalTime().toNanoOfDay());
+                    out.writeByte(AttendanceEvent.fromName(punch.getAction()).ordinal());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode attendance snapshot", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static AttendanceSummaryResponse decode(byte[] payload, String employeeName, boolean includePunches) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(payload)))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported attendance snapshot version: " + version);
+            }
+            long employeeId = in.readLong();
+            LocalDate fromDate = LocalDate.ofEpochDay(in.readLong());
+            LocalDate toDate = LocalDate.ofEpochDay(in.readLong());
+
+            AttendanceSummaryResponse.DurationSummary total = AttendanceSummaryResponse.DurationSummary.builder()
+                    .totalHours(in.readDouble())
+                    .totalOvertimeHours(in.readDouble())
+                    .totalWorkingDays(in.readInt())
+                    .totalHolidays(in.readInt())
+                    .totalWeekends(in.readInt())
+                    .build();
+
+            int dayCount = in.readInt();
+            List<AttendanceSummaryResponse.DailyAttendanceSummary> days = new ArrayList<>(dayCount);
+            for (int i = 0; i < dayCount; i++) {
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                int flags = in.readByte();
+                double totalHours = in.readDouble();
+                double overtimeHours = in.readDouble();
+                String holidayName = readNullableString(in);
+
+                int punchCount = in.readInt();
+                List<AttendanceResponse> punches = includePunches ? new ArrayList<>(punchCount) : null;
+                for (int j = 0; j < punchCount; j++) {
+                    long id = in.readLong();
+                    LocalDateTime timestamp = LocalDateTime.of(
+                            LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+                    AttendanceEvent action = EVENTS[in.readByte()];
+                    if (includePunches) {
+                        punches.add(AttendanceResponse.builder()
+                                .id(id)
+                                .employeeId(employeeId)
+                                .employeeName(employeeName)
+                                .timestamp(timestamp)
+                                .action(action.name())
+                                .build());
+                    }
+                }
+
+                days.add(AttendanceSummaryResponse.DailyAttendanceSummary.builder()
+                        .date(date)
+                        .attendances(punches)
+                        .isWorkingDay((flags & WORKING_DAY) != 0)
+                        .isHoliday((flags & HOLIDAY) != 0)
+                        .isWeekend((flags & WEEKEND) != 0)
+                        .totalHours(totalHours)
+                        .overtimeHours(overtimeHours)
+                        .holidayName(holidayName)
+                        .build());
+            }
+
+            return AttendanceSummaryResponse.builder()
+                    .dailySummaries(days)
+                    .totalSummary(total)
+                    .employeeId(employeeId)
+                    .employeeName(employeeName)
+                    .fromDate(fromDate)
+                    .toDate(toDate)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode attendance snapshot", e);
+        }
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,196 @@
+package com.attendance.service;
+
+import com.attendance.dto.AttendanceSummaryResponse;
+import com.attendance.entity.AttendanceSnapshot;
+import com.attendance.entity.ClosedPeriod;
+import com.attendance.repository.AttendanceSnapshotRepository;
+import com.attendance.repository.ClosedPeriodRepository;
+import com.attendance.sharding.ShardContext;
+import com.attendance.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists closed-period snapshots and keeps the set of closed months in memory so the
+ * punch path can reject late punches without a database read.
+ */
+@Slf4j
+@Component
+public class AttendanceSnapshotStore {
+
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO attendance_snapshots (employee_id, period_start, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final ClosedPeriodRepository closedPeriodRepository;
+    private final AttendanceSnapshotRepository snapshotRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<YearMonth> closedPeriods = ConcurrentHashMap.newKeySet();
+
+    public AttendanceSnapshotStore(ClosedPeriodRepository closedPeriodRepository,
+                                   AttendanceSnapshotRepository snapshotRepository,
+                                   ShardRouter shardRouter,
+                                   PlatformTransactionManager transactionManager,
+                                   DataSource dataSource) {
+        this.closedPeriodRepository = closedPeriodRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    void loadClosedPeriods() {
+        ShardContext.callOn(ShardRouter.DIRECTORY_SHARD, closedPeriodRepository::findAll)
+                .forEach(period -> closedPeriods.add(YearMonth.from(period.getPeriodStart())));
+        log.info("Loaded {} closed attendance periods", closedPeriods.size());
+    }
+
+    public boolean isClosed(YearMonth period) {
+        return closedPeriods.contains(period);
+    }
+
+    public boolean isClosed(LocalDate date) {
+        return !closedPeriods.isEmpty() && closedPeriods.contains(YearMonth.from(date));
+    }
+
+    /**
+     * Returns the snapshot-backed summary when {@code from..to} spans whole calendar months
+     * that are all closed and snapshotted for the employee, otherwise empty.
+     */
+    public Optional<AttendanceSummaryResponse> findSummary(Long employeeId, String employeeName,
+                                                           LocalDate from, LocalDate to, boolean includePunches) {
+        if (closedPeriods.isEmpty() || from.getDayOfMonth() != 1 || !to.equals(YearMonth.from(to).atEndOfMonth())) {
+            return Optional.empty();
+        }
+
+        List<AttendanceSummaryResponse> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            if (!closedPeriods.contains(month)) {
+                return Optional.empty();
+            }
+            Optional<AttendanceSnapshot> snapshot = snapshotRepository.findByEmployeeIdAndPeriodStart(employeeId, month.atDay(1));
+            if (snapshot.isEmpty()) {
+                return Optional.empty();
+            }
+            months.add(AttendanceSnapshotCodec.decode(snapshot.get().getPayload(), employeeName, includePunches));
+        }
+        return Optional.of(merge(months, employeeId, employeeName, from, to));
+    }
+
+    /**
+     * Drops any snapshots left on the shards for {@code period} by an earlier close that failed
+     * part-way, so the close can simply be retried.
+     */
+    public void clearSnapshots(YearMonth period) {
+        LocalDate periodStart = period.atDay(1);
+        shardRouter.scatterGather(shard -> transactionTemplate.execute(
+                status -> snapshotRepository.deleteByPeriodStart(periodStart)));
+    }
+
+    /**
+     * Writes one chunk of snapshots to {@code shard} as a single JDBC batch. Plain JDBC, because
+     * Hibernate cannot batch inserts with IDENTITY ids and would keep every payload in the
+     * persistence context until commit.
+     *
+     * @return total payload bytes written
+     */
+    public long storeChunk(int shard, YearMonth period, Map<Long, byte[]> payloads) {
+        Date periodStart = Date.valueOf(period.atDay(1));
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(payloads.size());
+        long totalBytes = 0;
+        for (Map.Entry<Long, byte[]> entry : payloads.entrySet()) {
+            rows.add(new Object[]{entry.getKey(), periodStart, entry.getValue(), createdAt});
+            totalBytes += entry.getValue().length;
+        }
+        ShardContext.runOn(shard, () -> jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, rows));
+        return totalBytes;
+    }
+
+    /**
+     * Records the period as closed on the directory shard once all its snapshots are written;
+     * from then on summaries are served from them and punches in the period are rejected.
+     */
+    public void markClosed(YearMonth period, int employeeCount) {
+        LocalDate periodStart = period.atDay(1);
+        ShardContext.runOn(ShardRouter.DIRECTORY_SHARD, () -> transactionTemplate.executeWithoutResult(
+                status -> closedPeriodRepository.save(new ClosedPeriod(periodStart, employeeCount))));
+        closedPeriods.add(period);
+    }
+
+    /**
+     * Reopens the period first and then drops its snapshots, so a failure part-way leaves
+     * only unused snapshots behind.
+     */
+    public void remove(YearMonth period) {
+        LocalDate periodStart = period.atDay(1);
+        ShardContext.runOn(ShardRouter.DIRECTORY_SHARD, () -> transactionTemplate.executeWithoutResult(
+                status -> closedPeriodRepository.deleteByPeriodStart(periodStart)));
+        closedPeriods.remove(period);
+
+        int removed = shardRouter.scatterGather(shard -> transactionTemplate.execute(
+                        status -> snapshotRepository.deleteByPeriodStart(periodStart)))
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        log.info("Removed {} attendance snapshots for period {}", removed, period);
+    }
+
+    static AttendanceSummaryResponse merge(List<AttendanceSummaryResponse> months, Long employeeId,
+                                           String employeeName, LocalDate from, LocalDate to) {
+        if (months.size() == 1) {
+            return months.get(0);
+        }
+
+        List<AttendanceSummaryResponse.DailyAttendanceSummary> days = new ArrayList<>();
+        double totalHours = 0;
+        double totalOvertimeHours = 0;
+        int totalWorkingDays = 0;
+        int totalHolidays = 0;
+        int totalWeekends = 0;
+        for (AttendanceSummaryResponse month : months) {
+            days.addAll(month.getDailySummaries());
+            AttendanceSummaryResponse.DurationSummary total = month.getTotalSummary();
+            totalHours += total.getTotalHours();
+            totalOvertimeHours += total.getTotalOvertimeHours();
+            totalWorkingDays += total.getTotalWorkingDays();
+            totalHolidays += total.getTotalHolidays();
+            totalWeekends += total.getTotalWeekends();
+        }
+
+        return AttendanceSummaryResponse.builder()
+                .dailySummaries(days)
+                .totalSummary(AttendanceSummaryResponse.DurationSummary.builder()
+                        .totalHours(totalHours)
+                        .totalOvertimeHours(totalOvertimeHours)
+                        .totalWorkingDays(totalWorkingDays)
+                        .totalHolidays(totalHolidays)
+                        .totalWeekends(totalWeekends)
+                        .build())
+                .employeeId(employeeId)
+                .employeeName(employeeName)
+                .fromDate(from)
+                .toDate(to)
+                .build();
+    }
+}
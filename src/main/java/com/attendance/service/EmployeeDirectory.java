@@ -0,0 +1,111 @@
+package com.attendance.service;
+
+import com.attendance.dto.EmployeeRecord;
+import com.attendance.entity.Employee;
+import com.attendance.repository.EmployeeRepository;
+import com.attendance.sharding.ShardContext;
+import com.attendance.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * In-memory employee id to name/department lookup for the punch and summary paths.
+ *
+ * <p>Records live in an {@link EmployeeTable}, which readers use without locking. A full
+ * reload builds a new table and publishes it through a volatile field. A miss falls back to
+ * the database, which also picks up employees created by another application instance.
+ * Department names are interned, so the few distinct values are shared by all records. The
+ * measured footprint is about 10 MB per 100k employees; see {@code EmployeeTableTest}.
+ */
+@Slf4j
+@Component
+public class EmployeeDirectory {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile EmployeeTable table = new EmployeeTable();
+
+    public EmployeeDirectory(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Loads every employee in one streamed pass into a new table and swaps it in; lookups
+     * keep using the previous table until then.
+     */
+    @PostConstruct
+    public void refresh() {
+        long start = System.nanoTime();
+        EmployeeTable loaded = ShardContext.callOn(ShardRouter.DIRECTORY_SHARD, () -> readOnlyTransaction.execute(status -> {
+            try (Stream<EmployeeRecord> records = employeeRepository.streamAllRecords()) {
+                EmployeeTable result = new EmployeeTable();
+                records.map(EmployeeDirectory::compact).forEach(result::put);
+                return result;
+            }
+        }));
+
+        table = loaded;
+        log.info("Loaded {} employees into the directory in {} ms, capacity {}",
+                loaded.size(), (System.nanoTime() - start) / 1_000_000, loaded.capacity());
+    }
+
+    /**
+     * Returns the employee, consulting the database only when the id is not yet cached.
+     *
+     * @return the record, or {@code null} if no such employee exists
+     */
+    public EmployeeRecord find(long id) {
+        EmployeeRecord record = table.get(id);
+        if (record != null) {
+            return record;
+        }
+        return employeeRepository.findById(id)
+                .map(this::put)
+                .orElse(null);
+    }
+
+    public boolean exists(long id) {
+        return find(id) != null;
+    }
+
+    /**
+     * Adds or replaces the employee once the current transaction commits, or right away when
+     * there is no transaction.
+     */
+    public void register(Employee employee) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(employee);
+                }
+            });
+        } else {
+            put(employee);
+        }
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    private EmployeeRecord put(Employee employee) {
+        return table.put(compact(new EmployeeRecord(employee.getId(), employee.getName(), employee.getDepartment())));
+    }
+
+    private static EmployeeRecord compact(EmployeeRecord record) {
+        return record.department() != null
+                ? new EmployeeRecord(record.id(), record.name(), record.department().intern())
+                : record;
+    }
+}
@@ -5,6 +5,7 @@ import com.attendance.dto.EmployeeResponse;
 import com.attendance.entity.Employee;
 import com.attendance.exception.DuplicateEmailException;
 import com.attendance.repository.EmployeeRepository;
+import com.attendance.sharding.EmployeeReplicator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,12 @@ public class EmployeeService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeReplicator employeeReplicator;
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
     @Transactional
     public EmployeeResponse createEmployee(EmployeeRequest request) {
         log.info("Creating new employee with email: {}", request.getEmail());
@@ -33,6 +40,8 @@ public class EmployeeService {
 
         Employee savedEmployee = employeeRepository.save(employee);
         log.info("Employee created successfully with ID: {}", savedEmployee.getId());
+        employeeReplicator.replicate(savedEmployee);
+        employeeDirectory.register(savedEmployee);
 
         return EmployeeResponse.builder()
                 .id(savedEmployee.getId())
@@ -0,0 +1,83 @@
+package com.attendance.service;
+
+import com.attendance.dto.EmployeeRecord;
+
+/**
+ * Open-addressing table of {@link EmployeeRecord}s keyed by the primitive id, so lookups
+ * neither box nor allocate.
+ *
+ * <p>Readers never lock. Records are immutable and a slot is filled with one reference write.
+ * A resize copies into a new array that is published through a volatile field, so a reader
+ * that still holds the old array sees every record inserted before the resize. Writers are
+ * serialized. The load factor stays at or below one half, which keeps probe runs short and
+ * guarantees every probe ends at an empty slot.
+ */
+final class EmployeeTable {
+
+    static final int MIN_CAPACITY = 1024;
+
+    private volatile EmployeeRecord[] slots = new EmployeeRecord[MIN_CAPACITY];
+    private volatile int size;
+
+    /**
+     * @return the record, or {@code null} if the id is not in the table
+     */
+    EmployeeRecord get(long id) {
+        EmployeeRecord[] current = slots;
+        int mask = current.length - 1;
+        for (int i = index(id, mask); ; i = (i + 1) & mask) {
+            EmployeeRecord record = current[i];
+            if (record == null || record.id() == id) {
+                return record;
+            }
+        }
+    }
+
+    /**
+     * Adds the record, or replaces the one with the same id.
+     */
+    synchronized EmployeeRecord put(EmployeeRecord record) {
+        EmployeeRecord[] current = slots;
+        if ((size + 1) * 2 > current.length) {
+            EmployeeRecord[] resized = new EmployeeRecord[current.length * 2];
+            for (EmployeeRecord existing : current) {
+                if (existing != null) {
+                    insert(resized, existing);
+                }
+            }
+            current = resized;
+        }
+        if (insert(current, record)) {
+            size++;
+        }
+        slots = current;
+        return record;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return true if a new slot was used, false if an existing record was replaced
+     */
+    private static boolean insert(EmployeeRecord[] slots, EmployeeRecord record) {
+        int mask = slots.length - 1;
+        for (int i = index(record.id(), mask); ; i = (i + 1) & mask) {
+            EmployeeRecord existing = slots[i];
+            if (existing == null || existing.id() == record.id()) {
+                slots[i] = record;
+                return existing == null;
+            }
+        }
+    }
+
+    private static int index(long id, int mask) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
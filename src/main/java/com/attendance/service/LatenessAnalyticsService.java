@@ -0,0 +1,345 @@
+package com.attendance.service;
+
+import com.attendance.dto.LatenessReportResponse;
+import com.attendance.dto.PunchRow;
+import com.attendance.enums.AttendanceEvent;
+import com.attendance.event.AttendanceMarkedEvent;
+import com.attendance.exception.BadRequestException;
+import com.attendance.repository.AttendanceRepository;
+import com.attendance.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Per-department, per-day arrival and departure statistics relative to each department's
+ * shift window. Counters are updated as punches commit and kept in a fixed ring of day buckets per
+ * department, so memory is bounded and window queries never touch the database.
+ */
+@Slf4j
+@Service
+public class LatenessAnalyticsService {
+
+    private static final String DEFAULT_DEPARTMENT = "General";
+
+    private static final int BIN_MINUTES = 15;
+    private static final int HISTOGRAM_START_MINUTES = -240;
+    private static final int BINS = -2 * HISTOGRAM_START_MINUTES / BIN_MINUTES;
+
+    private final AttendanceRepository attendanceRepository;
+    private final ShiftPolicyRegistry shiftPolicyRegistry;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int retentionDays;
+    private final Map<String, DepartmentStats> departments = new ConcurrentHashMap<>();
+
+    public LatenessAnalyticsService(AttendanceRepository attendanceRepository,
+                                    ShiftPolicyRegistry shiftPolicyRegistry,
+                                    ShardRouter shardRouter,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${attendance.analytics.retention-days:92}") int retentionDays) {
+        this.attendanceRepository = attendanceRepository;
+        this.shiftPolicyRegistry = shiftPolicyRegistry;
+        this.shardRouter = shardRouter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Replays the retained window once at startup, before the application accepts punches.
+     */
+    @PostConstruct
+    void rebuild() {
+        long start = System.nanoTime();
+        LocalDate since = LocalDate.now().minusDays(retentionDays - 1L);
+        int rows = shardRouter.scatterGather(shard -> readOnlyTransaction.execute(status -> {
+                    try (Stream<PunchRow> punches = attendanceRepository.streamPunchesSince(since)) {
+                        DayReplay replay = new DayReplay();
+                        punches.forEach(replay::accept);
+                        replay.flush();
+                        return replay.rows;
+                    }
+                }))
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        log.info("Rebuilt lateness analytics from {} punches across {} departments and {} shard(s) in {} ms",
+                rows, departments.size(), shardRouter.shardCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onAttendanceMarked(AttendanceMarkedEvent event) {
+        if (event.action() == AttendanceEvent.PUNCH_IN && event.firstOfDay()) {
+            recordArrival(event.department(), event.timestamp());
+        } else if (event.action() == AttendanceEvent.PUNCH_OUT) {
+            recordDeparture(event.department(), event.employeeId(), event.timestamp());
+        }
+    }
+
+    public List<LatenessReportResponse> getReport(String department, LocalDate fromDate, LocalDate toDate) {
+        LocalDate to = toDate != null ? toDate : LocalDate.now();
+        LocalDate from = fromDate != null ? fromDate : to.minusDays(6);
+        if (from.isAfter(to)) {
+            throw new BadRequestException("fromDate must not be after toDate");
+        }
+        // Buckets older than the retention window have been recycled
+        LocalDate today = LocalDate.now();
+        LocalDate oldestRetained = today.minusDays(retentionDays - 1L);
+        if (from.isBefore(oldestRetained)) {
+            from = oldestRetained;
+        }
+        if (to.isAfter(today)) {
+            to = today;
+        }
+        if (from.isAfter(to)) {
+            throw new BadRequestException("No lateness data for the requested window: analytics keep the last "
+                    + retentionDays + " days (" + oldestRetained + " to " + today + ")");
+        }
+
+        List<LatenessReportResponse> reports = new ArrayList<>();
+        if (department != null) {
+            DepartmentStats stats = departments.get(department);
+            if (stats != null) {
+                reports.add(stats.report(department, from, to));
+            }
+        } else {
+            for (Map.Entry<String, DepartmentStats> entry : departments.entrySet()) {
+                reports.add(entry.getValue().report(entry.getKey(), from, to));
+            }
+        }
+        return reports;
+    }
+
+    private void recordArrival(String department, LocalDateTime timestamp) {
+        int offset = shiftPolicyRegistry.policyFor(department).arrivalOffsetMinutes(timestamp.toLocalTime());
+        statsFor(department).recordArrival(timestamp.toLocalDate().toEpochDay(), offset);
+    }
+
+    private void recordDeparture(String department, Long employeeId, LocalDateTime timestamp) {
+        int offset = shiftPolicyRegistry.policyFor(department).departureOffsetMinutes(timestamp.toLocalTime());
+        statsFor(department).recordDeparture(timestamp.toLocalDate().toEpochDay(), employeeId, offset);
+    }
+
+    private DepartmentStats statsFor(String department) {
+        return departments.computeIfAbsent(department != null ? department : DEFAULT_DEPARTMENT,
+                name -> new DepartmentStats(retentionDays));
+    }
+
+    private static int bin(int offsetMinutes) {
+        int bin = Math.floorDiv(offsetMinutes - HISTOGRAM_START_MINUTES, BIN_MINUTES);
+        return Math.max(0, Math.min(BINS - 1, bin));
+    }
+
+    /**
+     * Folds punches ordered by employee and time into one arrival (first punch-in) and one
+     * departure (last punch-out) per employee-day, matching what live events produce.
+     */
+    private final class DayReplay {
+        private int rows;
+        private Long employeeId;
+        private String department;
+        private LocalDate date;
+        private LocalDateTime firstPunchIn;
+        private LocalDateTime lastPunchOut;
+
+        void accept(PunchRow punch) {
+            rows++;
+            LocalDate punchDate = punch.timestamp().toLocalDate();
+            if (!punch.employeeId().equals(employeeId) || !punchDate.equals(date)) {
+                flush();
+                employeeId = punch.employeeId();
+                department = punch.department();
+                date = punchDate;
+            }
+            if (punch.action() == AttendanceEvent.PUNCH_IN && firstPunchIn == null) {
+                firstPunchIn = punch.timestamp();
+            } else if (punch.action() == AttendanceEvent.PUNCH_OUT) {
+                lastPunchOut = punch.timestamp();
+            }
+        }
+
+        void flush() {
+            if (firstPunchIn != null) {
+                recordArrival(department, firstPunchIn);
+            }
+            if (lastPunchOut != null) {
+                recordDeparture(department, employeeId, lastPunchOut);
+            }
+            firstPunchIn = null;
+            lastPunchOut = null;
+        }
+    }
+
+    private static final class DepartmentStats {
+        private final DayBucket[] days;
+        // Latest departure per employee for the most recent day, so a later punch-out replaces an earlier one
+        private final Map<Long, Integer> trackedDepartures = new HashMap<>();
+        private long trackedDay = Long.MIN_VALUE;
+
+        DepartmentStats(int retentionDays) {
+            this.days = new DayBucket[retentionDays];
+        }
+
+        synchronized void recordArrival(long epochDay, int offset) {
+            DayBucket bucket = bucketFor(epochDay);
+            if (bucket != null) {
+                bucket.addArrival(offset);
+            }
+        }
+
+        synchronized void recordDeparture(long epochDay, Long employeeId, int offset) {
+            DayBucket bucket = bucketFor(epochDay);
+            if (bucket == null) {
+                return;
+            }
+            if (epochDay > trackedDay) {
+                trackedDepartures.clear();
+                trackedDay = epochDay;
+            }
+            if (epochDay == trackedDay) {
+                Integer previous = trackedDepartures.put(employeeId, offset);
+                if (previous != null) {
+                    bucket.removeDeparture(previous);
+                }
+            }
+            bucket.addDeparture(offset);
+        }
+
+        synchronized LatenessReportResponse report(String department, LocalDate from, LocalDate to) {
+            int[] arrivalHistogram = new int[BINS];
+            int[] departureHistogram = new int[BINS];
+            int arrivals = 0;
+            int lateArrivals = 0;
+            long arrivalOffsetSum = 0;
+            int departures = 0;
+            int earlyDepartures = 0;
+            long departureOffsetSum = 0;
+            List<LatenessReportResponse.DailyLateness> daily = new ArrayList<>();
+
+            for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+                DayBucket bucket = days[Math.floorMod(day, days.length)];
+                if (bucket == null || bucket.epochDay != day) {
+                    continue;
+                }
+                for (int i = 0; i < BINS; i++) {
+                    arrivalHistogram[i] += bucket.arrivalHistogram[i];
+                    departureHistogram[i] += bucket.departureHistogram[i];
+                }
+                arrivals += bucket.arrivals;
+                lateArrivals += bucket.lateArrivals;
+                arrivalOffsetSum += bucket.arrivalOffsetSum;
+                departures += bucket.departures;
+                earlyDepartures += bucket.earlyDepartures;
+                departureOffsetSum += bucket.departureOffsetSum;
+                daily.add(LatenessReportResponse.DailyLateness.builder()
+                        .date(LocalDate.ofEpochDay(day))
+                        .arrivals(bucket.arrivals)
+                        .lateArrivals(bucket.lateArrivals)
+                        .departures(bucket.departures)
+                        .earlyDepartures(bucket.earlyDepartures)
+                        .build());
+            }
+
+            return LatenessReportResponse.builder()
+                    .department(department)
+                    .fromDate(from)
+                    .toDate(to)
+                    .histogramStartMinutes(HISTOGRAM_START_MINUTES)
+                    .binMinutes(BIN_MINUTES)
+                    .arrivalHistogram(arrivalHistogram)
+                    .departureHistogram(departureHistogram)
+                    .arrivals(arrivals)
+                    .lateArrivals(lateArrivals)
+                    .averageArrivalOffsetMinutes(arrivals > 0 ? (double) arrivalOffsetSum / arrivals : 0)
+                    .departures(departures)
+                    .earlyDepartures(earlyDepartures)
+                    .averageDepartureOffsetMinutes(departures > 0 ? (double) departureOffsetSum / departures : 0)
+                    .days(daily)
+                    .build();
+        }
+
+        private DayBucket bucketFor(long epochDay) {
+            int slot = Math.floorMod(epochDay, days.length);
+            DayBucket bucket = days[slot];
+            if (bucket == null) {
+                bucket = new DayBucket(epochDay);
+                days[slot] = bucket;
+            } else if (bucket.epochDay < epochDay) {
+                bucket.reset(epochDay);
+            } else if (bucket.epochDay > epochDay) {
+                return null; // already outside the retention window
+            }
+            return bucket;
+        }
+    }
+
+    private static final class DayBucket {
+        private long epochDay;
+        private final int[] arrivalHistogram = new int[BINS];
+        private final int[] departureHistogram = new int[BINS];
+        private int arrivals;
+        private int lateArrivals;
+        private long arrivalOffsetSum;
+        private int departures;
+        private int earlyDepartures;
+        private long departureOffsetSum;
+
+        DayBucket(long epochDay) {
+            this.epochDay = epochDay;
+        }
+
+        void addArrival(int offset) {
+            arrivalHistogram[bin(offset)]++;
+            arrivals++;
+            arrivalOffsetSum += offset;
+            if (offset > 0) {
+                lateArrivals++;
+            }
+        }
+
+        void addDeparture(int offset) {
+            departureHistogram[bin(offset)]++;
+            departures++;
+            departureOffsetSum += offset;
+            if (offset < 0) {
+                earlyDepartures++;
+            }
+        }
+
+        void removeDeparture(int offset) {
+            departureHistogram[bin(offset)]--;
+            departures--;
+            departureOffsetSum -= offset;
+            if (offset < 0) {
+                earlyDepartures--;
+            }
+        }
+
+        void reset(long epochDay) {
+            this.epochDay = epochDay;
+            Arrays.fill(arrivalHistogram, 0);
+            Arrays.fill(departureHistogram, 0);
+            arrivals = 0;
+            lateArrivals = 0;
+            arrivalOffsetSum = 0;
+            departures = 0;
+            earlyDepartures = 0;
+            departureOffsetSum = 0;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.attendance.service;
+
+import com.attendance.dto.PeriodCloseResponse;
+import com.attendance.enums.SummaryView;
+import com.attendance.exception.BadRequestException;
+import com.attendance.repository.EmployeeRepository;
+import com.attendance.sharding.ShardContext;
+import com.attendance.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+public class PayrollPeriodService {
+
+    // Employees summarised and written per JDBC batch; bounds memory to one chunk per worker
+    private static final int CHUNK_SIZE = 500;
+
+    private final AttendanceService attendanceService;
+    private final AttendanceSnapshotStore snapshotStore;
+    private final EmployeeRepository employeeRepository;
+    private final ShardRouter shardRouter;
+    private final int closeParallelism;
+
+    public PayrollPeriodService(AttendanceService attendanceService,
+                                AttendanceSnapshotStore snapshotStore,
+                                EmployeeRepository employeeRepository,
+                                ShardRouter shardRouter,
+                                @Value("${attendance.payroll.close-parallelism:8}") int closeParallelism) {
+        this.attendanceService = attendanceService;
+        this.snapshotStore = snapshotStore;
+        this.employeeRepository = employeeRepository;
+        this.shardRouter = shardRouter;
+        this.closeParallelism = Math.max(1, closeParallelism);
+    }
+
+    /**
+     * Freezes a calendar month: every employee's full summary is computed once and stored as a
+     * compressed snapshot. Later summary requests covering the month are served from the
+     * snapshot and new punches dated in it are rejected until it is reopened.
+     *
+     * <p>Employees are processed in chunks of {@value #CHUNK_SIZE} per shard on a dedicated,
+     * bounded pool; each chunk is written as soon as it is encoded, so memory use does not grow
+     * with the number of employees.
+     */
+    public PeriodCloseResponse closePeriod(YearMonth period) {
+        if (snapshotStore.isClosed(period)) {
+            throw new BadRequestException("Attendance period " + period + " is already closed");
+        }
+        // Punches are stamped with the current time, so only months that have ended are complete
+        if (!period.isBefore(YearMonth.now())) {
+            throw new BadRequestException("Cannot close attendance period " + period + " before it has ended");
+        }
+
+        long start = System.nanoTime();
+        LocalDate from = period.atDay(1);
+        LocalDate to = period.atEndOfMonth();
+        List<Long> employeeIds = ShardContext.callOn(ShardRouter.DIRECTORY_SHARD, employeeRepository::findAllIds);
+        log.info("Closing attendance period {} for {} employees", period, employeeIds.size());
+
+        Map<Integer, List<Long>> idsByShard = new HashMap<>();
+        for (Long id : employeeIds) {
+            idsByShard.computeIfAbsent(shardRouter.shardFor(id), shard -> new ArrayList<>()).add(id);
+        }
+
+        snapshotStore.clearSnapshots(period);
+        ExecutorService executor = Executors.newFixedThreadPool(closeParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "period-close");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long snapshotBytes = 0;
+        List<Future<Long>> chunks = new ArrayList<>();
+        try {
+            idsByShard.forEach((shard, ids) -> {
+                for (int i = 0; i < ids.size(); i += CHUNK_SIZE) {
+                    List<Long> chunk = ids.subList(i, Math.min(i + CHUNK_SIZE, ids.size()));
+                    chunks.add(executor.submit(() -> closeChunk(shard, period, chunk, from, to)));
+                }
+            });
+            for (Future<Long> chunk : chunks) {
+                snapshotBytes += chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while closing attendance period " + period, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to close attendance period " + period, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        snapshotStore.markClosed(period, employeeIds.size());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Closed attendance period {}: {} snapshots in {} chunks, {} bytes, {} ms",
+                period, employeeIds.size(), chunks.size(), snapshotBytes, elapsedMillis);
+
+        return PeriodCloseResponse.builder()
+                .fromDate(from)
+                .toDate(to)
+                .employeeCount(employeeIds.size())
+                .snapshotBytes(snapshotBytes)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private long closeChunk(int shard, YearMonth period, List<Long> employeeIds, LocalDate from, LocalDate to) {
+        Map<Long, byte[]> payloads = new LinkedHashMap<>(employeeIds.size() * 2);
+        ShardContext.runOn(shard, () -> employeeIds.forEach(id -> payloads.put(id, AttendanceSnapshotCodec.encode(
+                attendanceService.getAttendanceForDuration(id, from, to, SummaryView.FULL)))));
+        return snapshotStore.storeChunk(shard, period, payloads);
+    }
+
+    public void reopenPeriod(YearMonth period) {
+        if (!snapshotStore.isClosed(period)) {
+            throw new BadRequestException("Attendance period " + period + " is not closed");
+        }
+        log.info("Reopening attendance period {}", period);
+        snapshotStore.remove(period);
+    }
+}
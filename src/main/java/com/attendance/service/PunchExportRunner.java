@@ -0,0 +1,56 @@
+package com.attendance.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Command-line entry point for the nightly payroll file, enabled by setting
+ * {@code attendance.export.dir}; see the README for an example invocation.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "attendance.export.dir")
+public class PunchExportRunner implements ApplicationRunner {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final PunchExportService punchExportService;
+
+    @Value("${attendance.export.dir}")
+    private String directory;
+
+    @Value("${attendance.export.from-date:}")
+    private String fromDate;
+
+    @Value("${attendance.export.to-date:}")
+    private String toDate;
+
+    @Value("${attendance.export.shard-by-department:false}")
+    private boolean shardByDepartment;
+
+    @Value("${attendance.export.parallelism:4}")
+    private int parallelism;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Defaults to the previous day, which is what the nightly job needs
+        LocalDate to = toDate.isBlank() ? LocalDate.now().minusDays(1) : LocalDate.parse(toDate, DATE_FORMAT);
+        LocalDate from = fromDate.isBlank() ? to : LocalDate.parse(fromDate, DATE_FORMAT);
+        log.info("Starting punch export from {} to {} into {}", from, to, directory);
+
+        PunchExportService.ExportResult result =
+                punchExportService.exportToFiles(from, to, Path.of(directory), shardByDepartment, parallelism);
+        log.info("Punch export finished: {} rows, {} file(s), {} rows/s",
+                result.rows(), result.files().size(), result.rowsPerSecond());
+    }
+}
@@ -0,0 +1,311 @@
+package com.attendance.service;
+
+import com.attendance.sharding.ShardContext;
+import com.attendance.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams punches as CSV straight from a forward-only JDBC cursor, so memory use does not
+ * depend on the size of the period being exported. With several shards, all shards are read
+ * in parallel.
+ */
+@Slf4j
+@Service
+public class PunchExportService {
+
+    private static final int FETCH_SIZE = 5000;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String HEADER = "id,employee_id,employee_name,department,date,time,action," +
+            "duration_minutes,is_working_day,is_holiday,is_weekend,is_overtime,remarks";
+
+    private static final String SELECT_PUNCHES =
+            "SELECT a.id, a.employee_id, e.name, e.department, a.date, a.time, a.action, a.duration_minutes, " +
+            "a.is_working_day, a.is_holiday, a.is_weekend, a.is_overtime, a.remarks " +
+            "FROM attendance a JOIN employees e ON e.id = a.employee_id " +
+            "WHERE a.date BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ShardRouter shardRouter;
+
+    public PunchExportService(DataSource dataSource, PlatformTransactionManager transactionManager, ShardRouter shardRouter) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.shardRouter = shardRouter;
+    }
+
+    public record ExportResult(long rows, long elapsedMillis, List<Path> files) {
+        public long rowsPerSecond() {
+            return elapsedMillis > 0 ? rows * 1000 / elapsedMillis : rows;
+        }
+    }
+
+    /**
+     * Writes every punch dated {@code from..to}, optionally limited to one department, to
+     * {@code out} as UTF-8 CSV. The stream is flushed but not closed.
+     */
+    public long writeCsv(LocalDate from, LocalDate to, String department, OutputStream out) {
+        return writeCsv(from, to, department != null ? DepartmentFilter.of(department) : DepartmentFilter.ALL, out);
+    }
+
+    private long writeCsv(LocalDate from, LocalDate to, DepartmentFilter filter, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long start = System.nanoTime();
+        long rows = streamRows(from, to, filter, writer);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Exported {} punches from {} to {} ({}) in {} ms, {} rows/s",
+                rows, from, to, filter.description(), elapsedMillis,
+                elapsedMillis > 0 ? rows * 1000 / elapsedMillis : rows);
+        return rows;
+    }
+
+    /**
+     * Writes gzipped CSV files into {@code directory}: a single file, or one file per
+     * department written in parallel when {@code shardByDepartment} is set.
+     */
+    public ExportResult exportToFiles(LocalDate from, LocalDate to, Path directory, boolean shardByDepartment, int parallelism) {
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create export directory " + directory, e);
+        }
+
+        String baseName = "punches-" + from + "-" + to;
+        List<Path> files = new ArrayList<>();
+        long rows = 0;
+        if (!shardByDepartment) {
+            Path file = directory.resolve(baseName + ".csv.gz");
+            rows = writeGzipFile(from, to, DepartmentFilter.ALL, file);
+            files.add(file);
+        } else {
+            // NULL sorts first, so employees without a department get the plain "unassigned" file name
+            List<String> departments = ShardContext.callOn(ShardRouter.DIRECTORY_SHARD, () -> jdbcTemplate.queryForList(
+                    "SELECT DISTINCT department FROM employees ORDER BY department NULLS FIRST", String.class));
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, departments.size())));
+            try {
+                List<Future<Long>> results = new ArrayList<>();
+                Set<String> usedNames = new HashSet<>();
+                for (String department : departments) {
+                    DepartmentFilter filter = department != null ? DepartmentFilter.of(department) : DepartmentFilter.UNASSIGNED;
+                    Path file = directory.resolve(baseName + "-" + uniqueFileName(department, usedNames) + ".csv.gz");
+                    files.add(file);
+                    results.add(executor.submit(() -> writeGzipFile(from, to, filter, file)));
+                }
+                for (Future<Long> result : results) {
+                    rows += result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Punch export interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Punch export failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        ExportResult result = new ExportResult(rows, (System.nanoTime() - start) / 1_000_000, files);
+        log.info("Exported {} punches into {} file(s) under {} in {} ms, {} rows/s",
+                result.rows(), files.size(), directory, result.elapsedMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    private long writeGzipFile(LocalDate from, LocalDate to, DepartmentFilter filter, Path file) {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file), WRITE_BUFFER_SIZE)) {
+            return writeCsv(from, to, filter, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write export file " + file, e);
+        }
+    }
+
+    private long streamRows(LocalDate from, LocalDate to, DepartmentFilter filter, Writer writer) {
+        String sql = SELECT_PUNCHES + filter.condition() + " ORDER BY a.employee_id, a.timestamp";
+        Object[] args = filter.department() != null
+                ? new Object[]{Date.valueOf(from), Date.valueOf(to), filter.department()}
+                : new Object[]{Date.valueOf(from), Date.valueOf(to)};
+
+        try {
+            writer.write(HEADER);
+            writer.write('\n');
+            long rows = shardRouter.shardCount() == 1
+                    ? ShardContext.callOn(ShardRouter.DIRECTORY_SHARD, () -> streamShard(sql, args, writer))
+                    : streamShardsInParallel(sql, args, writer);
+            writer.flush();
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write punch export", e);
+        }
+    }
+
+    /**
+     * Reads every shard at once. The directory shard streams straight into {@code writer}; the
+     * others spool into gzipped temporary files, which are appended in shard order once all
+     * cursors are done. Memory use stays constant and each shard's rows keep their order.
+     * Runs on its own threads so a long export does not hold the shared shard workers.
+     */
+    private long streamShardsInParallel(String sql, Object[] args, Writer writer) throws IOException {
+        int shardCount = shardRouter.shardCount();
+        Path[] parts = new Path[shardCount];
+        ExecutorService executor = Executors.newFixedThreadPool(shardCount);
+        try {
+            List<Long> rows = shardRouter.scatterGather(shard -> {
+                if (shard == ShardRouter.DIRECTORY_SHARD) {
+                    return streamShard(sql, args, writer);
+                }
+                try {
+                    parts[shard] = Files.createTempFile("punch-export-shard" + shard + "-", ".csv.gz");
+                    try (Writer partWriter = new BufferedWriter(new OutputStreamWriter(
+                            new GZIPOutputStream(Files.newOutputStream(parts[shard]), WRITE_BUFFER_SIZE),
+                            StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+                        return streamShard(sql, args, partWriter);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to spool punch export for shard " + shard, e);
+                }
+            }, executor);
+
+            for (Path part : parts) {
+                if (part != null) {
+                    try (Reader reader = new InputStreamReader(
+                            new GZIPInputStream(Files.newInputStream(part), WRITE_BUFFER_SIZE), StandardCharsets.UTF_8)) {
+                        reader.transferTo(writer);
+                    }
+                }
+            }
+            return rows.stream().mapToLong(Long::longValue).sum();
+        } finally {
+            executor.shutdownNow();
+            for (Path part : parts) {
+                if (part != null) {
+                    Files.deleteIfExists(part);
+                }
+            }
+        }
+    }
+
+    /** Streams the current shard's rows; PostgreSQL only honours the fetch size (a server-side cursor) inside a transaction. */
+    private long streamShard(String sql, Object[] args, Writer writer) {
+        CsvRowWriter rowWriter = new CsvRowWriter(writer);
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(sql, rowWriter, args));
+        return rowWriter.rows;
+    }
+
+    /**
+     * File-name form of a department. Departments that map to the same name (say "R&D" and
+     * "R D") get a numeric suffix, so no two parallel writers share a file.
+     */
+    private static String uniqueFileName(String department, Set<String> usedNames) {
+        String base = department != null ? department.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_") : "unassigned";
+        String name = base;
+        for (int suffix = 2; !usedNames.add(name); suffix++) {
+            name = base + "_" + suffix;
+        }
+        return name;
+    }
+
+    /** Department restriction of one export: none, employees without a department, or one department. */
+    private record DepartmentFilter(String condition, String department) {
+        static final DepartmentFilter ALL = new DepartmentFilter("", null);
+        static final DepartmentFilter UNASSIGNED = new DepartmentFilter(" AND e.department IS NULL", null);
+
+        static DepartmentFilter of(String department) {
+            return new DepartmentFilter(" AND e.department = ?", department);
+        }
+
+        String description() {
+            if (department != null) {
+                return "department: " + department;
+            }
+            return this == UNASSIGNED ? "no department" : "all departments";
+        }
+    }
+
+    private static final class CsvRowWriter implements RowCallbackHandler {
+        private final Writer writer;
+        private long rows;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                writer.write(rs.getString(1));
+                writer.write(',');
+                writer.write(rs.getString(2));
+                writer.write(',');
+                writeQuoted(rs.getString(3));
+                writer.write(',');
+                writeQuoted(rs.getString(4));
+                for (int column = 5; column <= 8; column++) {
+                    writer.write(',');
+                    String value = rs.getString(column);
+                    if (value != null) {
+                        writer.write(value);
+                    }
+                }
+                for (int column = 9; column <= 12; column++) {
+                    writer.write(',');
+                    writer.write(rs.getBoolean(column) ? "true" : "false");
+                }
+                writer.write(',');
+                writeQuoted(rs.getString(13));
+                writer.write('\n');
+                rows++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write punch export", e);
+            }
+        }
+
+        private void writeQuoted(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.attendance.service;
+
+import com.attendance.dto.ShiftRule;
+import com.attendance.exception.InvalidShiftPolicyException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Compiled form of a {@link ShiftRule}: times are held as seconds of day so overtime, break
+ * and offset calculations are plain integer arithmetic with no per-call parsing.
+ */
+public final class ShiftPolicy {
+
+    private final int shiftStartSecond;
+    private final int shiftEndSecond;
+    private final int overtimeStartSecond;
+    private final int breakMinutes;
+    private final int breakAfterMinutes;
+
+    private ShiftPolicy(ShiftRule rule) {
+        this.shiftStartSecond = rule.getShiftStart().toSecondOfDay();
+        this.shiftEndSecond = rule.getShiftEnd().toSecondOfDay();
+        this.overtimeStartSecond = rule.getOvertimeAfter().toSecondOfDay();
+        this.breakMinutes = rule.getBreakMinutes();
+        this.breakAfterMinutes = rule.getBreakAfterMinutes();
+    }
+
+    public static ShiftPolicy compile(String name, ShiftRule rule) {
+        if (rule == null || rule.getShiftStart() == null || rule.getShiftEnd() == null || rule.getOvertimeAfter() == null) {
+            throw new InvalidShiftPolicyException("Shift policy '" + name + "' must define shift start, shift end and overtime threshold");
+        }
+        if (!rule.getShiftStart().isBefore(rule.getShiftEnd())) {
+            throw new InvalidShiftPolicyException("Shift policy '" + name + "': shift start must be before shift end");
+        }
+        if (rule.getOvertimeAfter().isBefore(rule.getShiftEnd())) {
+            throw new InvalidShiftPolicyException("Shift policy '" + name + "': overtime threshold must not be before shift end");
+        }
+        if (rule.getBreakMinutes() < 0 || rule.getBreakAfterMinutes() < 0) {
+            throw new InvalidShiftPolicyException("Shift policy '" + name + "': break rules must not be negative");
+        }
+        return new ShiftPolicy(rule);
+    }
+
+    public boolean isOvertime(LocalTime punchOut) {
+        return punchOut.toSecondOfDay() > overtimeStartSecond;
+    }
+
+    /**
+     * Minutes of the session {@code in..out} falling after the overtime threshold; time past
+     * midnight of the punch-in day counts in full.
+     */
+    public long overtimeMinutes(LocalDateTime in, LocalDateTime out) {
+        long start = in.toLocalTime().toSecondOfDay();
+        long end = start + Duration.between(in, out).getSeconds();
+        return Math.max(0, end - Math.max(start, overtimeStartSecond)) / 60;
+    }
+
+    /**
+     * Paid minutes for a day with {@code workedMinutes} of sessions, after the break rule.
+     */
+    public long paidMinutes(long workedMinutes) {
+        return workedMinutes > breakAfterMinutes ? Math.max(0, workedMinutes - breakMinutes) : workedMinutes;
+    }
+
+    // Positive when the first punch-in is after the shift start
+    public int arrivalOffsetMinutes(LocalTime punchIn) {
+        return (punchIn.toSecondOfDay() - shiftStartSecond) / 60;
+    }
+
+    // Negative when the last punch-out is before the shift end
+    public int departureOffsetMinutes(LocalTime punchOut) {
+        return (punchOut.toSecondOfDay() - shiftEndSecond) / 60;
+    }
+}
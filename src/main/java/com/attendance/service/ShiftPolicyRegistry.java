@@ -0,0 +1,44 @@
+package com.attendance.service;
+
+import com.attendance.config.ShiftPolicyProperties;
+import com.attendance.dto.ShiftRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the compiled shift policy per department. A replacement is compiled in full before
+ * being swapped in with one reference write, so readers always see a complete policy set.
+ */
+@Slf4j
+@Component
+public class ShiftPolicyRegistry {
+
+    private record CompiledPolicies(ShiftPolicy defaults, Map<String, ShiftPolicy> departments) {
+    }
+
+    private final AtomicReference<CompiledPolicies> policies = new AtomicReference<>();
+
+    public ShiftPolicyRegistry(ShiftPolicyProperties properties) {
+        replace(properties.getDefaults(), properties.getDepartments());
+    }
+
+    public ShiftPolicy policyFor(String department) {
+        CompiledPolicies current = policies.get();
+        ShiftPolicy policy = department != null ? current.departments().get(department) : null;
+        return policy != null ? policy : current.defaults();
+    }
+
+    public void replace(ShiftRule defaults, Map<String, ShiftRule> departments) {
+        ShiftPolicy compiledDefaults = ShiftPolicy.compile("defaults", defaults);
+        Map<String, ShiftPolicy> compiled = new HashMap<>();
+        if (departments != null) {
+            departments.forEach((department, rule) -> compiled.put(department, ShiftPolicy.compile(department, rule)));
+        }
+        policies.set(new CompiledPolicies(compiledDefaults, Map.copyOf(compiled)));
+        log.info("Loaded shift policies for {} departments", compiled.size());
+    }
+}
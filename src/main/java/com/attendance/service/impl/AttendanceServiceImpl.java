@@ -2,17 +2,23 @@ package com.attendance.service.impl;
 
 import com.attendance.dto.AttendanceResponse;
 import com.attendance.dto.AttendanceSummaryResponse;
+import com.attendance.dto.EmployeeRecord;
 import com.attendance.entity.Attendance;
-import com.attendance.entity.Employee;
-import com.attendance.enums.AttendanceAction;
 import com.attendance.enums.AttendanceEvent;
+import com.attendance.enums.SummaryView;
+import com.attendance.event.AttendanceMarkedEvent;
 import com.attendance.exception.InvalidAttendanceException;
 import com.attendance.exception.ResourceNotFoundException;
 import com.attendance.repository.AttendanceRepository;
 import com.attendance.repository.EmployeeRepository;
 import com.attendance.service.AttendanceService;
+import com.attendance.service.AttendanceSnapshotStore;
+import com.attendance.service.EmployeeDirectory;
+import com.attendance.service.ShiftPolicy;
+import com.attendance.service.ShiftPolicyRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +27,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.DayOfWeek;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,52 +36,48 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AttendanceServiceImpl implements AttendanceService {
 
-    private static final LocalTime WORK_START_TIME = LocalTime.of(9, 0); // 9:00 AM
-    private static final LocalTime WORK_END_TIME = LocalTime.of(17, 0); // 5:00 PM
-
     private final AttendanceRepository attendanceRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDirectory employeeDirectory;
+    private final AttendanceSnapshotStore snapshotStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShiftPolicyRegistry shiftPolicyRegistry;
 
     @Override
     @Transactional
-    public AttendanceResponse markAttendance(Long employeeId, String event, String remarks) {
+    public AttendanceResponse markAttendance(Long employeeId, AttendanceEvent action, String remarks) {
         
-        // Validate event type using enum
-        if (!AttendanceAction.isValid(event)) {
-            throw new IllegalArgumentException("Invalid event type. Must be either PUNCH_IN or PUNCH_OUT");
+        EmployeeRecord employee = employeeDirectory.find(employeeId);
+        if (employee == null) {
+            throw new ResourceNotFoundException("Employee not found with id: " + employeeId);
         }
 
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + employeeId));
-
         LocalDateTime timestamp = LocalDateTime.now();
         LocalDate date = timestamp.toLocalDate();
         LocalTime time = timestamp.toLocalTime();
 
-        // Validate action type using enum
-        AttendanceAction action = AttendanceAction.valueOf(event);
-        boolean isPunchIn = action == AttendanceAction.PUNCH_IN;
-        boolean isPunchOut = action == AttendanceAction.PUNCH_OUT;
+        if (snapshotStore.isClosed(date)) {
+            throw new InvalidAttendanceException("Attendance period " + YearMonth.from(date) + " is closed. Reopen it before recording punches");
+        }
+
+        boolean isPunchIn = action == AttendanceEvent.PUNCH_IN;
+        boolean isPunchOut = action == AttendanceEvent.PUNCH_OUT;
 
         // Get all attendance entries for the day, sorted by timestamp
-        List<Attendance> existingEntries = attendanceRepository.findByEmployeeIdAndDate(employeeId, date)
-                .stream()
-                .sorted(Comparator.comparing(Attendance::getTimestamp))
-                .collect(Collectors.toList());
+        List<Attendance> existingEntries = attendanceRepository.findByEmployeeIdAndDateOrderByTimestamp(employeeId, date);
 
         // Validate punch in/out sequence
         if (!existingEntries.isEmpty()) {
-            Attendance lastEntry = existingEntries.get(existingEntries.size() - 1);
-            String lastAction = lastEntry.getAction().name();
-            
-            if (isPunchIn && AttendanceAction.PUNCH_IN.name().equals(lastAction)) {
-                throw new InvalidAttendanceException("Cannot punch in twice in a row. Last action was also PUNCH_IN");
+            AttendanceEvent lastAction = existingEntries.get(existingEntries.size() - 1).getAction();
+
+            if (isPunchIn && lastAction == AttendanceEvent.PUNCH_IN) {
+                throw InvalidAttendanceException.DOUBLE_PUNCH_IN;
             }
-            if (isPunchOut && AttendanceAction.PUNCH_OUT.name().equals(lastAction)) {
-                throw new InvalidAttendanceException("Cannot punch out twice in a row. Last action was also PUNCH_OUT");
+            if (isPunchOut && lastAction == AttendanceEvent.PUNCH_OUT) {
+                throw InvalidAttendanceException.DOUBLE_PUNCH_OUT;
             }
         } else if (isPunchOut) {
-            throw new InvalidAttendanceException("Cannot punch out without a previous punch-in record");
+            throw InvalidAttendanceException.PUNCH_OUT_WITHOUT_PUNCH_IN;
         }
 
         // Check if it's a weekend
@@ -84,15 +87,15 @@ public class AttendanceServiceImpl implements AttendanceService {
         boolean isHoliday = false; // Implement holiday checking logic
         String holidayName = null; // Set holiday name if it's a holiday
 
-        // Check if it's overtime (after 6 PM)
-        boolean isOvertime = time.isAfter(LocalTime.of(18, 0));
+        // Check if it's overtime (after the department's overtime threshold)
+        boolean isOvertime = shiftPolicyRegistry.policyFor(employee.department()).isOvertime(time);
 
         // Calculate duration if it's a punch-out
         Long durationMinutes = null;
         if (isPunchOut && !existingEntries.isEmpty()) {
             // Find the last punch-in
             Optional<Attendance> lastPunchIn = existingEntries.stream()
-                    .filter(entry -> AttendanceAction.PUNCH_IN.name().equals(entry.getAction().name()))
+                    .filter(entry -> entry.getAction() == AttendanceEvent.PUNCH_IN)
                     .reduce((first, second) -> second); // Get the last punch-in
 
             if (lastPunchIn.isPresent()) {
@@ -100,12 +103,13 @@ public class AttendanceServiceImpl implements AttendanceService {
             }
         }
 
+        // Reference only; the directory already confirmed the employee exists
         Attendance attendance = Attendance.builder()
-                .employee(employee)
+                .employee(employeeRepository.getReferenceById(employeeId))
                 .timestamp(timestamp)
                 .date(date)
                 .time(time)
-                .action(AttendanceEvent.valueOf(event))
+                .action(action)
                 .durationMinutes(durationMinutes)
                 .isWorkingDay(!isWeekend && !isHoliday)
                 .isHoliday(isHoliday)
@@ -116,32 +120,35 @@ public class AttendanceServiceImpl implements AttendanceService {
                 .build();
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
-        return mapToResponse(savedAttendance);
+        eventPublisher.publishEvent(new AttendanceMarkedEvent(
+                employeeId, employee.department(), timestamp, savedAttendance.getAction(), existingEntries.isEmpty()));
+        return mapToResponse(savedAttendance, employee);
     }
 
     @Override
     public List<AttendanceResponse> getAttendanceByEmployeeId(Long employeeId) {
-        if (!employeeRepository.existsById(employeeId)) {
+        EmployeeRecord employee = employeeDirectory.find(employeeId);
+        if (employee == null) {
             throw new ResourceNotFoundException("Employee not found with id: " + employeeId);
         }
         return attendanceRepository.findByEmployeeId(employeeId).stream()
-                .map(this::mapToResponse)
+                .map(attendance -> mapToResponse(attendance, employee))
                 .collect(Collectors.toList());
     }
 
     @Override
-    public AttendanceSummaryResponse getAttendanceForDuration(Long employeeId, LocalDate fromDate, LocalDate toDate) {
-        log.info("Fetching attendance summary for employeeId: {} from: {} to: {}", employeeId, fromDate, toDate);
+    public AttendanceSummaryResponse getAttendanceForDuration(Long employeeId, LocalDate fromDate, LocalDate toDate, SummaryView view) {
+        log.info("Fetching {} attendance summary for employeeId: {} from: {} to: {}", view, employeeId, fromDate, toDate);
         
         LocalDateTime from = fromDate != null ? fromDate.atStartOfDay() : null;
         LocalDateTime to = toDate != null ? toDate.atTime(23, 59, 59) : null;
 
         // Validate employee exists
-        Employee employee = employeeRepository.findById(employeeId)
-            .orElseThrow(() -> {
-                log.error("Employee not found with ID: {}", employeeId);
-                return new ResourceNotFoundException("Employee", "id", employeeId);
-            });
+        EmployeeRecord employee = employeeDirectory.find(employeeId);
+        if (employee == null) {
+            log.error("Employee not found with ID: {}", employeeId);
+            throw new ResourceNotFoundException("Employee", "id", employeeId);
+        }
 
         // Set default date range to last 7 days if not provided
         if (from == null) {
@@ -153,11 +160,19 @@ public class AttendanceServiceImpl implements AttendanceService {
             log.debug("Using default to date: {}", to);
         }
 
+        Optional<AttendanceSummaryResponse> snapshot = snapshotStore.findSummary(
+            employeeId, employee.name(), from.toLocalDate(), to.toLocalDate(), view == SummaryView.FULL);
+        if (snapshot.isPresent()) {
+            log.debug("Serving attendance summary for employeeId: {} from closed-period snapshots", employeeId);
+            return snapshot.get();
+        }
+
         List<Attendance> attendances = attendanceRepository.findByEmployeeIdAndDateRange(employeeId, from, to);
         log.debug("Found {} attendance records", attendances.size());
         
         Map<LocalDate, List<Attendance>> dailyAttendances = attendances.stream()
             .collect(Collectors.groupingBy(Attendance::getDate));
+        ShiftPolicy shiftPolicy = shiftPolicyRegistry.policyFor(employee.department());
 
         List<AttendanceSummaryResponse.DailyAttendanceSummary> dailySummaries = new ArrayList<>();
         double totalHours = 0;
@@ -170,8 +185,8 @@ public class AttendanceServiceImpl implements AttendanceService {
             List<Attendance> dayAttendances = entry.getValue();
             Attendance firstAttendance = dayAttendances.get(0);
             
-            double dayHours = calculateDayHours(dayAttendances);
-            double overtimeHours = calculateOvertimeHours(dayAttendances);
+            double dayHours = calculateDayHours(dayAttendances, shiftPolicy);
+            double overtimeHours = calculateOvertimeHours(dayAttendances, shiftPolicy);
             
             if (firstAttendance.isWorkingDay()) {
                 totalWorkingDays++;
@@ -190,9 +205,11 @@ public class AttendanceServiceImpl implements AttendanceService {
 
             AttendanceSummaryResponse.DailyAttendanceSummary dailySummary = AttendanceSummaryResponse.DailyAttendanceSummary.builder()
                 .date(entry.getKey())
-                .attendances(dayAttendances.stream()
-                    .map(this::convertToAttendanceResponse)
-                    .collect(Collectors.toList()))
+                .attendances(view == SummaryView.FULL
+                    ? dayAttendances.stream()
+                        .map(attendance -> convertToAttendanceResponse(attendance, employee))
+                        .collect(Collectors.toList())
+                    : null)
                 .isWorkingDay(firstAttendance.isWorkingDay())
                 .isHoliday(firstAttendance.isHoliday())
                 .isWeekend(firstAttendance.isWeekend())
@@ -218,18 +235,18 @@ public class AttendanceServiceImpl implements AttendanceService {
         return AttendanceSummaryResponse.builder()
             .dailySummaries(dailySummaries)
             .totalSummary(totalSummary)
-            .employeeId(employee.getId())
-            .employeeName(employee.getName())
+            .employeeId(employee.id())
+            .employeeName(employee.name())
             .fromDate(from.toLocalDate())
             .toDate(to.toLocalDate())
             .build();
     }
 
-    private AttendanceResponse mapToResponse(Attendance attendance) {
+    private AttendanceResponse mapToResponse(Attendance attendance, EmployeeRecord employee) {
         return AttendanceResponse.builder()
                 .id(attendance.getId())
-                .employeeId(attendance.getEmployee().getId())
-                .employeeName(attendance.getEmployee().getName())
+                .employeeId(employee.id())
+                .employeeName(employee.name())
                 .timestamp(attendance.getTimestamp())
                 .date(attendance.getDate())
                 .time(attendance.getTime())
@@ -244,49 +261,46 @@ public class AttendanceServiceImpl implements AttendanceService {
                 .build();
     }
 
-    private AttendanceResponse convertToAttendanceResponse(Attendance attendance) {
+    private AttendanceResponse convertToAttendanceResponse(Attendance attendance, EmployeeRecord employee) {
         return AttendanceResponse.builder()
             .id(attendance.getId())
-            .employeeId(attendance.getEmployee().getId())
-            .employeeName(attendance.getEmployee().getName())
+            .employeeId(employee.id())
+            .employeeName(employee.name())
             .timestamp(attendance.getTimestamp())
             .action(attendance.getAction().name())
             .build();
     }
 
-    private double calculateDayHours(List<Attendance> dayAttendances) {
-        double totalHours = 0;
+    private double calculateDayHours(List<Attendance> dayAttendances, ShiftPolicy shiftPolicy) {
+        long workedMinutes = 0;
         LocalDateTime lastPunchIn = null;
 
         for (Attendance attendance : dayAttendances) {
             if (AttendanceEvent.PUNCH_IN.equals(attendance.getAction())) {
                 lastPunchIn = attendance.getTimestamp();
             } else if (AttendanceEvent.PUNCH_OUT.equals(attendance.getAction()) && lastPunchIn != null) {
-                Duration duration = Duration.between(lastPunchIn, attendance.getTimestamp());
-                totalHours += duration.toMinutes() / 60.0;
+                workedMinutes += Duration.between(lastPunchIn, attendance.getTimestamp()).toMinutes();
                 lastPunchIn = null;
             }
         }
 
-        return totalHours;
+        return shiftPolicy.paidMinutes(workedMinutes) / 60.0;
     }
 
-    private double calculateOvertimeHours(List<Attendance> dayAttendances) {
-        double overtimeHours = 0;
+    private double calculateOvertimeHours(List<Attendance> dayAttendances, ShiftPolicy shiftPolicy) {
+        long overtimeMinutes = 0;
         LocalDateTime lastPunchIn = null;
 
         for (Attendance attendance : dayAttendances) {
             if (AttendanceEvent.PUNCH_IN.equals(attendance.getAction())) {
                 lastPunchIn = attendance.getTimestamp();
             } else if (AttendanceEvent.PUNCH_OUT.equals(attendance.getAction()) && lastPunchIn != null) {
-                if (attendance.isOvertime()) {
-                    Duration duration = Duration.between(lastPunchIn, attendance.getTimestamp());
-                    overtimeHours += duration.toMinutes() / 60.0;
-                }
+                // Only the part of the session past the overtime threshold counts
+                overtimeMinutes += shiftPolicy.overtimeMinutes(lastPunchIn, attendance.getTimestamp());
                 lastPunchIn = null;
             }
         }
 
-        return overtimeHours;
+        return overtimeMinutes / 60.0;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.attendance.sharding;
+
+import java.util.Arrays;
+
+/**
+ * Maps employee ids to shards with virtual nodes on a 64-bit ring. Adding a shard only moves
+ * the ids that land on its new points, roughly 1/N of the total.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final int[] shards;
+
+    public ConsistentHashRing(int shardCount, int virtualNodes) {
+        if (shardCount < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("Shard count and virtual nodes must be positive");
+        }
+        int size = shardCount * virtualNodes;
+        long[][] entries = new long[size][];
+        for (int shard = 0, i = 0; shard < shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++, i++) {
+                entries[i] = new long[]{mix(((long) shard << 32) | node), shard};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+
+        this.points = new long[size];
+        this.shards = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = entries[i][0];
+            shards[i] = (int) entries[i][1];
+        }
+    }
+
+    public int shardFor(long employeeId) {
+        int index = Arrays.binarySearch(points, mix(employeeId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return shards[index == points.length ? 0 : index];
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,96 @@
+package com.attendance.sharding;
+
+import com.attendance.entity.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Copies employee rows from the directory shard to every other shard, so attendance rows
+ * can reference their employee locally. Upserts by id, which makes repeated copies harmless.
+ *
+ * <p>The copy runs just before the directory transaction commits and is retried a few times.
+ * If a shard still cannot be written, the exception rolls the directory insert back, so an
+ * employee is never visible to the punch path without a row on its attendance shard.
+ */
+@Slf4j
+@Component
+public class EmployeeReplicator {
+
+    static final String UPSERT_EMPLOYEE =
+            "INSERT INTO employees (id, name, email, department) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, email = EXCLUDED.email, department = EXCLUDED.department";
+
+    // A replica left behind by a directory commit that failed after the copy would block the email
+    // from being registered again; it has no attendance, so it is safe to drop
+    private static final String DELETE_ORPHANED_REPLICA =
+            "DELETE FROM employees e WHERE e.email = ? AND e.id <> ? " +
+            "AND NOT EXISTS (SELECT 1 FROM attendance a WHERE a.employee_id = e.id)";
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final ShardRouter shardRouter;
+
+    public EmployeeReplicator(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * Replicates before the current transaction on the directory shard commits, or right away
+     * when there is no transaction. Throws if a shard cannot be written after retrying.
+     */
+    public void replicate(Employee employee) {
+        if (shardRouter.shardCount() == 1) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    copyToShards(employee);
+                }
+            });
+        } else {
+            copyToShards(employee);
+        }
+    }
+
+    private void copyToShards(Employee employee) {
+        for (int shard = 1; shard < shardRouter.shardCount(); shard++) {
+            copyToShard(employee, shard);
+        }
+    }
+
+    private void copyToShard(Employee employee, int shard) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shardRouter.shardDataSource(shard));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(DELETE_ORPHANED_REPLICA, employee.getEmail(), employee.getId());
+                jdbcTemplate.update(UPSERT_EMPLOYEE,
+                        employee.getId(), employee.getName(), employee.getEmail(), employee.getDepartment());
+                return;
+            } catch (DataAccessException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.error("Failed to replicate employee {} to shard {} after {} attempts", employee.getId(), shard, attempt, e);
+                    throw e;
+                }
+                log.warn("Failed to replicate employee {} to shard {} (attempt {} of {}): {}",
+                        employee.getId(), shard, attempt, MAX_ATTEMPTS, e.getMessage());
+                sleep(RETRY_BACKOFF_MILLIS * attempt);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while replicating employee", e);
+        }
+    }
+}
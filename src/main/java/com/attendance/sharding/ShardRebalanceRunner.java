@@ -0,0 +1,106 @@
+package com.attendance.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resharding tool, enabled with {@code attendance.sharding.rebalance=true}. After shards are
+ * added to the configuration it re-copies employees to every shard, then moves each
+ * employee's attendance and snapshots to the shard the hash ring now assigns. Rows are
+ * copied with their ids and deleted from the source only after the copy, so an interrupted
+ * run can simply be started again.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "attendance.sharding.rebalance", havingValue = "true")
+public class ShardRebalanceRunner implements ApplicationRunner {
+
+    private static final String ATTENDANCE_COLUMNS = "id, employee_id, timestamp, date, time, action, duration_minutes, " +
+            "is_working_day, is_holiday, holiday_name, is_weekend, is_overtime, remarks";
+    private static final String SNAPSHOT_COLUMNS = "id, employee_id, period_start, payload, created_at";
+
+    private final ShardRouter shardRouter;
+
+    public ShardRebalanceRunner(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (shardRouter.shardCount() == 1) {
+            log.warn("Sharding is not enabled or only one shard is configured; nothing to rebalance");
+            return;
+        }
+
+        long start = System.nanoTime();
+        int employees = copyEmployees();
+        List<Long> moved = shardRouter.scatterGather(this::moveMisplacedEmployees);
+        log.info("Rebalance finished in {} ms: {} employees replicated, employees moved per shard: {}",
+                (System.nanoTime() - start) / 1_000_000, employees, moved);
+    }
+
+    private int copyEmployees() {
+        List<Map<String, Object>> employees = jdbc(ShardRouter.DIRECTORY_SHARD)
+                .queryForList("SELECT id, name, email, department FROM employees");
+        List<Object[]> rows = employees.stream()
+                .map(e -> new Object[]{e.get("id"), e.get("name"), e.get("email"), e.get("department")})
+                .toList();
+        for (int shard = 1; shard < shardRouter.shardCount(); shard++) {
+            jdbc(shard).batchUpdate(EmployeeReplicator.UPSERT_EMPLOYEE, rows);
+        }
+        return rows.size();
+    }
+
+    private long moveMisplacedEmployees(int sourceShard) {
+        JdbcTemplate source = jdbc(sourceShard);
+        List<Long> employeeIds = source.queryForList(
+                "SELECT DISTINCT employee_id FROM attendance UNION SELECT DISTINCT employee_id FROM attendance_snapshots",
+                Long.class);
+
+        long moved = 0;
+        for (Long employeeId : employeeIds) {
+            int targetShard = shardRouter.shardFor(employeeId);
+            if (targetShard == sourceShard) {
+                continue;
+            }
+            JdbcTemplate target = jdbc(targetShard);
+            int attendance = moveRows(source, target, "attendance", ATTENDANCE_COLUMNS, 13, employeeId);
+            int snapshots = moveRows(source, target, "attendance_snapshots", SNAPSHOT_COLUMNS, 5, employeeId);
+            log.debug("Moved employee {} from shard {} to {}: {} punches, {} snapshots",
+                    employeeId, sourceShard, targetShard, attendance, snapshots);
+            moved++;
+        }
+        log.info("Shard {}: moved {} of {} employees", sourceShard, moved, employeeIds.size());
+        return moved;
+    }
+
+    private int moveRows(JdbcTemplate source, JdbcTemplate target, String table, String columns, int columnCount, Long employeeId) {
+        List<Object[]> rows = source.query("SELECT " + columns + " FROM " + table + " WHERE employee_id = ?",
+                (rs, rowNum) -> {
+                    Object[] row = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        row[i] = rs.getObject(i + 1);
+                    }
+                    return row;
+                }, employeeId);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(columnCount, "?"));
+        target.batchUpdate("INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ") ON CONFLICT DO NOTHING", rows);
+        source.update("DELETE FROM " + table + " WHERE employee_id = ?", employeeId);
+        return rows.size();
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+        return new JdbcTemplate(shardRouter.shardDataSource(shard));
+    }
+}
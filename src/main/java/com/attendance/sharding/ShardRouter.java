@@ -0,0 +1,116 @@
+package com.attendance.sharding;
+
+import com.attendance.config.ShardingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Entry point for shard-aware code. With sharding disabled there is a single shard and every
+ * call runs inline, so callers do not need to branch on configuration.
+ */
+@Slf4j
+@Component
+public class ShardRouter {
+
+    public static final int DIRECTORY_SHARD = 0;
+
+    private final int shardCount;
+    private final ConsistentHashRing ring;
+    private final ObjectProvider<ShardRoutingDataSource> routingDataSource;
+    private final ExecutorService executor;
+
+    public ShardRouter(ShardingProperties properties, ObjectProvider<ShardRoutingDataSource> routingDataSource) {
+        this.shardCount = properties.isEnabled() ? Math.max(1, properties.getShards().size()) : 1;
+        this.ring = new ConsistentHashRing(shardCount, properties.getVirtualNodes());
+        this.routingDataSource = routingDataSource;
+        this.executor = shardCount > 1
+                ? Executors.newFixedThreadPool(shardCount, runnable -> {
+                    Thread thread = new Thread(runnable, "shard-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+        log.info("Attendance data routed across {} shard(s)", shardCount);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(long employeeId) {
+        return shardCount == 1 ? DIRECTORY_SHARD : ring.shardFor(employeeId);
+    }
+
+    public <T> T callForEmployee(long employeeId, Supplier<T> action) {
+        return ShardContext.callOn(shardFor(employeeId), action);
+    }
+
+    /**
+     * Runs {@code perShard} on every shard in parallel, each with its shard selected, and
+     * returns the results in shard order.
+     */
+    public <T> List<T> scatterGather(IntFunction<T> perShard) {
+        return scatterGather(perShard, executor);
+    }
+
+    /**
+     * Same as {@link #scatterGather(IntFunction)}, but on the caller's executor, for
+     * long-running work that should not hold the shared shard workers.
+     */
+    public <T> List<T> scatterGather(IntFunction<T> perShard, ExecutorService executor) {
+        List<T> results = new ArrayList<>(shardCount);
+        if (shardCount == 1) {
+            results.add(ShardContext.callOn(DIRECTORY_SHARD, () -> perShard.apply(DIRECTORY_SHARD)));
+            return results;
+        }
+
+        List<Future<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(executor.submit(() -> ShardContext.callOn(target, () -> perShard.apply(target))));
+        }
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Direct connection source for one shard, outside of any transaction bound to the routing
+     * data source; empty when sharding is disabled.
+     */
+    public DataSource shardDataSource(int shard) {
+        ShardRoutingDataSource routing = routingDataSource.getIfAvailable();
+        return routing != null ? routing.getShard(shard) : null;
+    }
+}
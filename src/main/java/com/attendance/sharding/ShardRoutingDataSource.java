@@ -0,0 +1,20 @@
+package com.attendance.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes connections to the shard in {@link ShardContext}, or to shard 0 when none is set.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    public DataSource getShard(int shard) {
+        return getResolvedDataSources().get(shard);
+    }
+}
@@ -0,0 +1,44 @@
+package com.attendance.sharding;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Selects the shard for requests addressed to one employee ({@code {employeeId}} in the path)
+ * before the service layer opens its transaction.
+ */
+@Component
+public class ShardRoutingInterceptor implements HandlerInterceptor {
+
+    private final ShardRouter shardRouter;
+
+    public ShardRoutingInterceptor(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String employeeId = variables != null ? variables.get("employeeId") : null;
+        if (employeeId != null) {
+            try {
+                ShardContext.set(shardRouter.shardFor(Long.parseLong(employeeId)));
+            } catch (NumberFormatException e) {
+                // Left to argument binding, which rejects the request
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ShardContext.clear();
+    }
+}
@@ -0,0 +1,49 @@
+-- Schema applied to every shard when attendance.sharding.enabled is set.
+-- Keep in step with the JPA entities; statements must be idempotent.
+
+CREATE TABLE IF NOT EXISTS employees (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    department VARCHAR(255) DEFAULT 'General',
+    CONSTRAINT uk_employee_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS attendance (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    employee_id BIGINT NOT NULL REFERENCES employees (id),
+    timestamp TIMESTAMP(6) NOT NULL,
+    date DATE NOT NULL,
+    time TIME(6) NOT NULL,
+    action VARCHAR(255) NOT NULL,
+    duration_minutes BIGINT,
+    is_working_day BOOLEAN NOT NULL,
+    is_holiday BOOLEAN,
+    holiday_name VARCHAR(255),
+    is_weekend BOOLEAN,
+    is_overtime BOOLEAN,
+    remarks VARCHAR(500)
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_date ON attendance (employee_id, date);
+CREATE INDEX IF NOT EXISTS idx_employee_timestamp ON attendance (employee_id, timestamp);
+CREATE INDEX IF NOT EXISTS idx_date ON attendance (date);
+
+CREATE TABLE IF NOT EXISTS closed_periods (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    period_start DATE NOT NULL,
+    employee_count INTEGER NOT NULL,
+    closed_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_closed_period_start UNIQUE (period_start)
+);
+
+CREATE TABLE IF NOT EXISTS attendance_snapshots (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    period_start DATE NOT NULL,
+    payload BYTEA NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_snapshot_employee_period UNIQUE (employee_id, period_start)
+);
+
+CREATE INDEX IF NOT EXISTS idx_snapshot_period ON attendance_snapshots (period_start);
@@ -0,0 +1,237 @@
+package com.attendance.benchmark;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.attendance.config.ShiftPolicyProperties;
+import com.attendance.dto.AttendanceResponse;
+import com.attendance.dto.AttendanceSummaryResponse;
+import com.attendance.dto.EmployeeRecord;
+import com.attendance.entity.Attendance;
+import com.attendance.entity.Employee;
+import com.attendance.enums.AttendanceEvent;
+import com.attendance.enums.SummaryView;
+import com.attendance.repository.AttendanceRepository;
+import com.attendance.repository.EmployeeRepository;
+import com.attendance.service.AttendanceSnapshotStore;
+import com.attendance.service.EmployeeDirectory;
+import com.attendance.service.ShiftPolicyRegistry;
+import com.attendance.service.impl.AttendanceServiceImpl;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Service-side latency of a punch and of a one-month full summary under the default and the
+ * {@code prod} logging setup. Logging is initialised by Spring Boot from the real
+ * logback-spring.xml with or without the {@code prod} profile, at the levels application.yml
+ * sets for it, and each SQL statement the request would issue goes through Hibernate's
+ * {@link SqlStatementLogger} configured as {@code show-sql}/{@code format_sql} or
+ * {@code log_slow_query} would configure it.
+ *
+ * <p>Repositories are in-memory stubs, so the score is the service and logging cost without
+ * database round trips. Standard output is redirected to a file for the trial, standing in for
+ * a container's captured stdout, and log files go to a temporary {@code LOG_PATH}; both are
+ * deleted afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingProfileBenchmark {
+
+    private static final long EMPLOYEE_ID = 4242L;
+    private static final LocalDate MONTH_START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2024, 1, 31);
+
+    private static final String SELECT_DAY = "select a1_0.id,a1_0.action,a1_0.date,a1_0.duration_minutes,"
+            + "a1_0.employee_id,a1_0.holiday_name,a1_0.is_holiday,a1_0.is_overtime,a1_0.is_weekend,"
+            + "a1_0.is_working_day,a1_0.remarks,a1_0.time,a1_0.timestamp from attendance a1_0 "
+            + "where a1_0.employee_id=? and a1_0.date=? order by a1_0.timestamp";
+    private static final String INSERT_PUNCH = "insert into attendance (action,date,duration_minutes,"
+            + "employee_id,holiday_name,is_holiday,is_overtime,is_weekend,is_working_day,remarks,time,timestamp) "
+            + "values (?,?,?,?,?,?,?,?,?,?,?,?)";
+    private static final String SELECT_RANGE = "select a1_0.id,a1_0.action,a1_0.date,a1_0.duration_minutes,"
+            + "a1_0.employee_id,a1_0.holiday_name,a1_0.is_holiday,a1_0.is_overtime,a1_0.is_weekend,"
+            + "a1_0.is_working_day,a1_0.remarks,a1_0.time,a1_0.timestamp from attendance a1_0 "
+            + "where a1_0.employee_id=? and a1_0.timestamp between ? and ? order by a1_0.timestamp";
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private AttendanceServiceImpl service;
+    private SqlStatementLogger sqlLogger;
+    private LoggingSystem loggingSystem;
+    private PrintStream originalOut;
+    private PrintStream capturedOut;
+    private Path stdoutFile;
+    private Path logDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        boolean prod = "prod".equals(profile);
+
+        logDirectory = Files.createTempDirectory("logging-profile");
+        System.setProperty("LOG_PATH", logDirectory.toString());
+        originalOut = System.out;
+        stdoutFile = Files.createTempFile("logging-profile-stdout", ".log");
+        capturedOut = new PrintStream(new BufferedOutputStream(new FileOutputStream(stdoutFile.toFile()), 8192), true);
+        System.setOut(capturedOut);
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "spring.application.name", "attendance-management",
+                "server.port", "8080")));
+        if (prod) {
+            environment.setActiveProfiles("prod");
+        }
+        loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(environment), "classpath:logback-spring.xml", null);
+        // Levels application.yml sets for each profile
+        loggingSystem.setLogLevel("com.attendance", prod ? LogLevel.INFO : LogLevel.DEBUG);
+
+        // show-sql and format_sql by default; the prod profile logs only statements over 200 ms
+        sqlLogger = prod ? new SqlStatementLogger(false, false, false, 200) : new SqlStatementLogger(true, true, false, 0);
+
+        service = new AttendanceServiceImpl(attendanceRepository(), employeeRepository(), employeeDirectory(),
+                snapshotStore(), event -> {
+        }, new ShiftPolicyRegistry(new ShiftPolicyProperties()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+        loggingSystem.cleanUp();
+        System.setOut(originalOut);
+        capturedOut.close();
+        Files.deleteIfExists(stdoutFile);
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(logDirectory);
+        System.clearProperty("LOG_PATH");
+    }
+
+    /** One punch: the day's punches are read, then the new one is inserted. */
+    @Benchmark
+    public AttendanceResponse markAttendance() {
+        executed(SELECT_DAY);
+        AttendanceResponse response = service.markAttendance(EMPLOYEE_ID, AttendanceEvent.PUNCH_IN, null);
+        executed(INSERT_PUNCH);
+        return response;
+    }
+
+    /** A full-view summary for an open month: one range query, then a log line per day. */
+    @Benchmark
+    public AttendanceSummaryResponse monthlySummary() {
+        executed(SELECT_RANGE);
+        return service.getAttendanceForDuration(EMPLOYEE_ID, MONTH_START, MONTH_END, SummaryView.FULL);
+    }
+
+    /** What Hibernate does around every statement it executes. */
+    private void executed(String sql) {
+        long start = System.nanoTime();
+        sqlLogger.logStatement(sql);
+        sqlLogger.logSlowQuery(sql, start, null);
+    }
+
+    private static AttendanceRepository attendanceRepository() {
+        AttendanceRepository repository = mock(AttendanceRepository.class, withSettings().stubOnly());
+        LocalDateTime morning = LocalDate.now().atTime(8, 55);
+        List<Attendance> today = List.of(
+                punch(1L, morning, AttendanceEvent.PUNCH_IN),
+                punch(2L, morning.plusHours(4), AttendanceEvent.PUNCH_OUT));
+        when(repository.findByEmployeeIdAndDateOrderByTimestamp(anyLong(), any())).thenReturn(today);
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Four punches on each weekday of the month
+        List<Attendance> month = new ArrayList<>();
+        long id = 100L;
+        for (LocalDate date = MONTH_START; !date.isAfter(MONTH_END); date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() >= 6) {
+                continue;
+            }
+            LocalDateTime start = date.atTime(8, 55);
+            month.add(punch(id++, start, AttendanceEvent.PUNCH_IN));
+            month.add(punch(id++, start.plusMinutes(241), AttendanceEvent.PUNCH_OUT));
+            month.add(punch(id++, start.plusMinutes(278), AttendanceEvent.PUNCH_IN));
+            month.add(punch(id++, start.plusMinutes(545), AttendanceEvent.PUNCH_OUT));
+        }
+        when(repository.findByEmployeeIdAndDateRange(anyLong(), any(), any())).thenReturn(month);
+        return repository;
+    }
+
+    private static EmployeeRepository employeeRepository() {
+        EmployeeRepository repository = mock(EmployeeRepository.class, withSettings().stubOnly());
+        when(repository.getReferenceById(anyLong())).thenReturn(new Employee());
+        return repository;
+    }
+
+    private static EmployeeDirectory employeeDirectory() {
+        EmployeeDirectory directory = mock(EmployeeDirectory.class, withSettings().stubOnly());
+        when(directory.find(EMPLOYEE_ID)).thenReturn(new EmployeeRecord(EMPLOYEE_ID, "Alexandra Montgomery", "Engineering"));
+        return directory;
+    }
+
+    private static AttendanceSnapshotStore snapshotStore() {
+        AttendanceSnapshotStore store = mock(AttendanceSnapshotStore.class, withSettings().stubOnly());
+        when(store.isClosed(any(LocalDate.class))).thenReturn(false);
+        when(store.findSummary(anyLong(), any(), any(), any(), anyBoolean())).thenReturn(Optional.empty());
+        return store;
+    }
+
+    private static Attendance punch(long id, LocalDateTime timestamp, AttendanceEvent action) {
+        boolean weekend = timestamp.getDayOfWeek().getValue() >= 6;
+        return Attendance.builder()
+                .id(id)
+                .timestamp(timestamp)
+                .date(timestamp.toLocalDate())
+                .time(timestamp.toLocalTime())
+                .action(action)
+                .isWorkingDay(!weekend)
+                .isWeekend(weekend)
+                .build();
+    }
+}
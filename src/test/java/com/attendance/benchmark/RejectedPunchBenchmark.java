@@ -0,0 +1,131 @@
+package com.attendance.benchmark;
+
+import com.attendance.dto.ErrorResponse;
+import com.attendance.enums.AttendanceEvent;
+import com.attendance.exception.InvalidAttendanceException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rejecting a punch, from event name to the error body, before and after the
+ * rejection path was reworked. Run with {@code -prof gc}; {@code gc.alloc.rate.norm} is the
+ * bytes allocated per rejected punch. Log output is not included.
+ *
+ * <p>The "before" variants replay the original code: validation through {@code valueOf}
+ * wrapped in a try/catch, a second {@code valueOf} for the action, and a new exception with
+ * a stack trace per rejection. A real request fills in a stack roughly a hundred frames deep,
+ * so the stack-trace cost measured here is a lower bound.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RejectedPunchBenchmark {
+
+    private static final String PATH = "/api/attendance/42/mark/";
+
+    private String invalidEvent = "PUNCH_INN";
+    private String punchIn = "PUNCH_IN";
+    private AttendanceEvent lastAction = AttendanceEvent.PUNCH_IN;
+
+    @Benchmark
+    public ErrorResponse invalidEventBefore() {
+        try {
+            if (!LegacyAction.isValid(invalidEvent)) {
+                throw new IllegalArgumentException("Invalid event type. Must be either PUNCH_IN or PUNCH_OUT");
+            }
+            return null;
+        } catch (IllegalArgumentException e) {
+            return errorResponse(e, invalidEvent);
+        }
+    }
+
+    @Benchmark
+    public ErrorResponse invalidEventAfter() {
+        try {
+            if (AttendanceEvent.fromName(invalidEvent) == null) {
+                throw InvalidAttendanceException.INVALID_EVENT;
+            }
+            return null;
+        } catch (InvalidAttendanceException e) {
+            return errorResponse(e, invalidEvent);
+        }
+    }
+
+    @Benchmark
+    public ErrorResponse doublePunchBefore() {
+        try {
+            if (!LegacyAction.isValid(punchIn)) {
+                throw new IllegalArgumentException("Invalid event type. Must be either PUNCH_IN or PUNCH_OUT");
+            }
+            LegacyAction action = LegacyAction.valueOf(punchIn);
+            if (action == LegacyAction.PUNCH_IN && LegacyAction.PUNCH_IN.name().equals(lastAction.name())) {
+                throw new LegacyInvalidAttendanceException("Cannot punch in twice in a row. Last action was also PUNCH_IN");
+            }
+            return null;
+        } catch (LegacyInvalidAttendanceException e) {
+            return errorResponse(e, punchIn);
+        }
+    }
+
+    @Benchmark
+    public ErrorResponse doublePunchAfter() {
+        try {
+            AttendanceEvent action = AttendanceEvent.fromName(punchIn);
+            if (action == null) {
+                throw InvalidAttendanceException.INVALID_EVENT;
+            }
+            if (action == AttendanceEvent.PUNCH_IN && lastAction == AttendanceEvent.PUNCH_IN) {
+                throw InvalidAttendanceException.DOUBLE_PUNCH_IN;
+            }
+            return null;
+        } catch (InvalidAttendanceException e) {
+            return errorResponse(e, punchIn);
+        }
+    }
+
+    /** Body built by the exception handler for every rejection, before and after. */
+    private static ErrorResponse errorResponse(RuntimeException e, String event) {
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(400)
+                .error("Bad Request")
+                .message(e.getMessage())
+                .path(PATH + event)
+                .build();
+    }
+
+    /** The removed {@code AttendanceAction} enum, validated by catching {@code valueOf} failures. */
+    private enum LegacyAction {
+        PUNCH_IN,
+        PUNCH_OUT;
+
+        static boolean isValid(String action) {
+            try {
+                valueOf(action);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+
+    /** The original exception, which captured a stack trace on every construction. */
+    private static final class LegacyInvalidAttendanceException extends RuntimeException {
+        LegacyInvalidAttendanceException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.attendance.benchmark;
+
+import com.attendance.dto.AttendanceResponse;
+import com.attendance.dto.AttendanceSummaryResponse;
+import com.attendance.enums.AttendanceEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload size and serialization cost of a one-month attendance summary in each wire
+ * format the summary endpoint negotiates, for both views. Payload sizes are printed once
+ * per trial; the score is the time to encode one summary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummaryEncodingBenchmark {
+
+    private static final int DAYS = 31;
+    private static final int PUNCHES_PER_DAY = 4;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"full", "slim"})
+    private String view;
+
+    private ObjectMapper mapper;
+    private AttendanceSummaryResponse summary;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        mapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        summary = monthlySummary("full".equals(view));
+        System.out.printf("%n%s/%s payload: %d bytes%n", format, view, mapper.writeValueAsBytes(summary).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(summary);
+    }
+
+    /** Same shape the summary endpoint builds: one day per date, punches only in the full view. */
+    private static AttendanceSummaryResponse monthlySummary(boolean includePunches) {
+        long employeeId = 4242L;
+        String employeeName = "Alexandra Montgomery";
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        long punchId = 1_000_000L;
+
+        List<AttendanceSummaryResponse.DailyAttendanceSummary> days = new ArrayList<>(DAYS);
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = from.plusDays(day);
+            List<AttendanceResponse> punches = null;
+            if (includePunches) {
+                punches = new ArrayList<>(PUNCHES_PER_DAY);
+                LocalDateTime timestamp = date.atTime(8, 55, 12);
+                for (int i = 0; i < PUNCHES_PER_DAY; i++) {
+                    punches.add(AttendanceResponse.builder()
+                            .id(punchId++)
+                            .employeeId(employeeId)
+                            .employeeName(employeeName)
+                            .timestamp(timestamp)
+                            .action((i % 2 == 0 ? AttendanceEvent.PUNCH_IN : AttendanceEvent.PUNCH_OUT).name())
+                            .build());
+                    timestamp = timestamp.plusMinutes(i % 2 == 0 ? 241 : 37);
+                }
+            }
+            boolean weekend = date.getDayOfWeek().getValue() >= 6;
+            days.add(AttendanceSummaryResponse.DailyAttendanceSummary.builder()
+                    .date(date)
+                    .attendances(punches)
+                    .isWorkingDay(!weekend)
+                    .isHoliday(false)
+                    .isWeekend(weekend)
+                    .totalHours(8.03)
+                    .overtimeHours(0.25)
+                    .build());
+        }
+
+        return AttendanceSummaryResponse.builder()
+                .dailySummaries(days)
+                .totalSummary(AttendanceSummaryResponse.DurationSummary.builder()
+                        .totalHours(DAYS * 8.03)
+                        .totalOvertimeHours(DAYS * 0.25)
+                        .totalWorkingDays(23)
+                        .totalHolidays(0)
+                        .totalWeekends(8)
+                        .build())
+                .employeeId(employeeId)
+                .employeeName(employeeName)
+                .fromDate(from)
+                .toDate(from.plusDays(DAYS - 1))
+                .build();
+    }
+}
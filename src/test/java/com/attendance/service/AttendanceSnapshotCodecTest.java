@@ -0,0 +1,142 @@
+package com.attendance.service;
+
+import com.attendance.dto.AttendanceResponse;
+import com.attendance.dto.AttendanceSummaryResponse;
+import com.attendance.enums.AttendanceEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttendanceSnapshotCodecTest {
+
+    private static final long EMPLOYEE_ID = 42L;
+    private static final LocalDate FROM = LocalDate.of(2024, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Test
+    void roundTripKeepsHeaderAndTotals() {
+        AttendanceSummaryResponse decoded = AttendanceSnapshotCodec.decode(
+                AttendanceSnapshotCodec.encode(summary()), "Jane Doe", true);
+
+        assertThat(decoded.getEmployeeId()).isEqualTo(EMPLOYEE_ID);
+        assertThat(decoded.getEmployeeName()).isEqualTo("Jane Doe");
+        assertThat(decoded.getFromDate()).isEqualTo(FROM);
+        assertThat(decoded.getToDate()).isEqualTo(TO);
+        assertThat(decoded.getTotalSummary()).isEqualTo(summary().getTotalSummary());
+    }
+
+    @Test
+    void daysAreDecodedInDateOrderWithTheirFlags() {
+        List<AttendanceSummaryResponse.DailyAttendanceSummary> days = AttendanceSnapshotCodec.decode(
+                AttendanceSnapshotCodec.encode(summary()), "Jane Doe", true).getDailySummaries();
+
+        assertThat(days).extracting(AttendanceSummaryResponse.DailyAttendanceSummary::getDate)
+                .containsExactly(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 29));
+
+        AttendanceSummaryResponse.DailyAttendanceSummary workingDay = days.get(0);
+        assertThat(workingDay.isWorkingDay()).isTrue();
+        assertThat(workingDay.isHoliday()).isFalse();
+        assertThat(workingDay.isWeekend()).isFalse();
+        assertThat(workingDay.getTotalHours()).isEqualTo(8.5);
+        assertThat(workingDay.getOvertimeHours()).isEqualTo(0.5);
+        assertThat(workingDay.getHolidayName()).isNull();
+
+        AttendanceSummaryResponse.DailyAttendanceSummary weekend = days.get(1);
+        assertThat(weekend.isWorkingDay()).isFalse();
+        assertThat(weekend.isHoliday()).isFalse();
+        assertThat(weekend.isWeekend()).isTrue();
+        assertThat(weekend.getAttendances()).isEmpty();
+
+        AttendanceSummaryResponse.DailyAttendanceSummary holiday = days.get(2);
+        assertThat(holiday.isWorkingDay()).isFalse();
+        assertThat(holiday.isHoliday()).isTrue();
+        assertThat(holiday.isWeekend()).isFalse();
+        assertThat(holiday.getHolidayName()).isEqualTo("Good Friday");
+    }
+
+    @Test
+    void punchesKeepTheirOrderAndAreStampedWithTheEmployee() {
+        List<AttendanceResponse> punches = AttendanceSnapshotCodec.decode(
+                AttendanceSnapshotCodec.encode(summary()), "Jane Doe", true).getDailySummaries().get(0).getAttendances();
+
+        assertThat(punches).extracting(AttendanceResponse::getId).containsExactly(11L, 12L, 13L);
+        assertThat(punches).extracting(AttendanceResponse::getTimestamp).containsExactly(
+                LocalDateTime.of(2024, 3, 1, 8, 59, 1, 123_456_789),
+                LocalDateTime.of(2024, 3, 1, 12, 0),
+                LocalDateTime.of(2024, 3, 1, 18, 0));
+        assertThat(punches).extracting(AttendanceResponse::getAction).containsExactly(
+                AttendanceEvent.PUNCH_IN.name(), AttendanceEvent.PUNCH_OUT.name(), AttendanceEvent.PUNCH_IN.name());
+        assertThat(punches).allSatisfy(punch -> {
+            assertThat(punch.getEmployeeId()).isEqualTo(EMPLOYEE_ID);
+            assertThat(punch.getEmployeeName()).isEqualTo("Jane Doe");
+        });
+    }
+
+    @Test
+    void slimDecodeLeavesPunchesOutButKeepsTheRest() {
+        byte[] payload = AttendanceSnapshotCodec.encode(summary());
+
+        AttendanceSummaryResponse slim = AttendanceSnapshotCodec.decode(payload, "Jane Doe", false);
+        AttendanceSummaryResponse full = AttendanceSnapshotCodec.decode(payload, "Jane Doe", true);
+
+        assertThat(slim.getDailySummaries()).allSatisfy(day -> assertThat(day.getAttendances()).isNull());
+        assertThat(slim.getDailySummaries()).extracting(AttendanceSummaryResponse.DailyAttendanceSummary::getHolidayName)
+                .containsExactly(null, null, "Good Friday");
+        assertThat(slim.getTotalSummary()).isEqualTo(full.getTotalSummary());
+    }
+
+    private static AttendanceSummaryResponse summary() {
+        List<AttendanceResponse> punches = List.of(
+                punch(11L, LocalDateTime.of(2024, 3, 1, 8, 59, 1, 123_456_789), AttendanceEvent.PUNCH_IN),
+                punch(12L, LocalDateTime.of(2024, 3, 1, 12, 0), AttendanceEvent.PUNCH_OUT),
+                punch(13L, LocalDateTime.of(2024, 3, 1, 18, 0), AttendanceEvent.PUNCH_IN));
+
+        // Deliberately out of date order; the codec sorts days on encode
+        List<AttendanceSummaryResponse.DailyAttendanceSummary> days = List.of(
+                AttendanceSummaryResponse.DailyAttendanceSummary.builder()
+                        .date(LocalDate.of(2024, 3, 29))
+                        .isHoliday(true)
+                        .holidayName("Good Friday")
+                        .build(),
+                AttendanceSummaryResponse.DailyAttendanceSummary.builder()
+                        .date(LocalDate.of(2024, 3, 1))
+                        .attendances(punches)
+                        .isWorkingDay(true)
+                        .totalHours(8.5)
+                        .overtimeHours(0.5)
+                        .build(),
+                AttendanceSummaryResponse.DailyAttendanceSummary.builder()
+                        .date(LocalDate.of(2024, 3, 2))
+                        .attendances(List.of())
+                        .isWeekend(true)
+                        .build());
+
+        return AttendanceSummaryResponse.builder()
+                .dailySummaries(days)
+                .totalSummary(AttendanceSummaryResponse.DurationSummary.builder()
+                        .totalHours(8.5)
+                        .totalOvertimeHours(0.5)
+                        .totalWorkingDays(1)
+                        .totalHolidays(1)
+                        .totalWeekends(1)
+                        .build())
+                .employeeId(EMPLOYEE_ID)
+                .employeeName("Stale Name")
+                .fromDate(FROM)
+                .toDate(TO)
+                .build();
+    }
+
+    private static AttendanceResponse punch(long id, LocalDateTime timestamp, AttendanceEvent action) {
+        return AttendanceResponse.builder()
+                .id(id)
+                .employeeId(EMPLOYEE_ID)
+                .timestamp(timestamp)
+                .action(action.name())
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.attendance.service;
+
+import com.attendance.dto.AttendanceSummaryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttendanceSnapshotStoreTest {
+
+    @Test
+    void singleMonthIsReturnedAsIs() {
+        AttendanceSummaryResponse march = month(YearMonth.of(2024, 3), 160.0, 4.0, 21, 1, 9);
+
+        AttendanceSummaryResponse merged = AttendanceSnapshotStore.merge(List.of(march), 42L, "Jane Doe",
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+
+        assertThat(merged).isSameAs(march);
+    }
+
+    @Test
+    void multipleMonthsAreConcatenatedAndTotalsSummed() {
+        AttendanceSummaryResponse january = month(YearMonth.of(2024, 1), 168.0, 2.5, 22, 1, 8);
+        AttendanceSummaryResponse february = month(YearMonth.of(2024, 2), 150.5, 0.0, 20, 0, 9);
+        AttendanceSummaryResponse march = month(YearMonth.of(2024, 3), 160.0, 4.0, 21, 1, 9);
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 3, 31);
+
+        AttendanceSummaryResponse merged = AttendanceSnapshotStore.merge(
+                List.of(january, february, march), 42L, "Jane Doe", from, to);
+
+        assertThat(merged.getEmployeeId()).isEqualTo(42L);
+        assertThat(merged.getEmployeeName()).isEqualTo("Jane Doe");
+        assertThat(merged.getFromDate()).isEqualTo(from);
+        assertThat(merged.getToDate()).isEqualTo(to);
+        assertThat(merged.getDailySummaries()).hasSize(31 + 29 + 31);
+        assertThat(merged.getDailySummaries()).extracting(AttendanceSummaryResponse.DailyAttendanceSummary::getDate)
+                .startsWith(from)
+                .endsWith(to)
+                .isSorted();
+
+        AttendanceSummaryResponse.DurationSummary total = merged.getTotalSummary();
+        assertThat(total.getTotalHours()).isEqualTo(478.5);
+        assertThat(total.getTotalOvertimeHours()).isEqualTo(6.5);
+        assertThat(total.getTotalWorkingDays()).isEqualTo(63);
+        assertThat(total.getTotalHolidays()).isEqualTo(2);
+        assertThat(total.getTotalWeekends()).isEqualTo(26);
+    }
+
+    private static AttendanceSummaryResponse month(YearMonth month, double hours, double overtime,
+                                                   int workingDays, int holidays, int weekends) {
+        List<AttendanceSummaryResponse.DailyAttendanceSummary> days = month.atDay(1)
+                .datesUntil(month.atEndOfMonth().plusDays(1))
+                .map(date -> AttendanceSummaryResponse.DailyAttendanceSummary.builder().date(date).build())
+                .toList();
+        return AttendanceSummaryResponse.builder()
+                .dailySummaries(days)
+                .totalSummary(AttendanceSummaryResponse.DurationSummary.builder()
+                        .totalHours(hours)
+                        .totalOvertimeHours(overtime)
+                        .totalWorkingDays(workingDays)
+                        .totalHolidays(holidays)
+                        .totalWeekends(weekends)
+                        .build())
+                .employeeId(42L)
+                .employeeName("Jane Doe")
+                .fromDate(month.atDay(1))
+                .toDate(month.atEndOfMonth())
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.attendance.service;
+
+import com.attendance.dto.EmployeeRecord;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeTableTest {
+
+    private static final String[] FIRST_NAMES = {"Alexandra", "Benjamin", "Chloe", "Daniel", "Elena", "Farid", "Grace", "Hiroshi"};
+    private static final String[] LAST_NAMES = {"Montgomery", "Nguyen", "Okafor", "Petrov", "Quintero", "Rasmussen"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Human Resources", "Finance", "Sales", "Operations", "IT"};
+
+    @Test
+    void getReturnsInsertedRecordsAndNullForUnknownIds() {
+        EmployeeTable table = new EmployeeTable();
+        table.put(new EmployeeRecord(1, "Ada", "IT"));
+        table.put(new EmployeeRecord(-7, "Grace", null));
+        table.put(new EmployeeRecord(Long.MAX_VALUE, "Linus", "Engineering"));
+
+        assertThat(table.get(1).name()).isEqualTo("Ada");
+        assertThat(table.get(-7).name()).isEqualTo("Grace");
+        assertThat(table.get(Long.MAX_VALUE).name()).isEqualTo("Linus");
+        assertThat(table.get(2)).isNull();
+        assertThat(table.size()).isEqualTo(3);
+    }
+
+    @Test
+    void putReplacesRecordWithSameId() {
+        EmployeeTable table = new EmployeeTable();
+        table.put(new EmployeeRecord(42, "Ada", "IT"));
+        table.put(new EmployeeRecord(42, "Ada Lovelace", "Engineering"));
+
+        assertThat(table.get(42)).isEqualTo(new EmployeeRecord(42, "Ada Lovelace", "Engineering"));
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resizeKeepsEveryRecordAndHalfLoadFactor() {
+        EmployeeTable table = new EmployeeTable();
+        int count = EmployeeTable.MIN_CAPACITY * 20;
+        for (long id = 1; id <= count; id++) {
+            table.put(new EmployeeRecord(id * 1_000_003, "Employee " + id, "IT"));
+        }
+
+        assertThat(table.size()).isEqualTo(count);
+        assertThat(table.capacity()).isGreaterThanOrEqualTo(count * 2);
+        for (long id = 1; id <= count; id++) {
+            assertThat(table.get(id * 1_000_003).name()).isEqualTo("Employee " + id);
+        }
+    }
+
+    @Test
+    void readersSeeEveryPublishedRecordWhileTableResizes() throws InterruptedException {
+        EmployeeTable table = new EmployeeTable();
+        int count = 200_000;
+        AtomicLong published = new AtomicLong();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (!done.get() && failure.get() == null) {
+                    long last = published.get();
+                    if (last == 0) {
+                        continue;
+                    }
+                    long id = random.nextLong(1, last + 1);
+                    EmployeeRecord record = table.get(id);
+                    if (record == null || record.id() != id) {
+                        failure.compareAndSet(null, "Published id " + id + " not visible, got " + record);
+                    }
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        for (long id = 1; id <= count; id++) {
+            table.put(new EmployeeRecord(id, "Employee " + id, "IT"));
+            published.set(id);
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertThat(failure.get()).isNull();
+        assertThat(table.size()).isEqualTo(count);
+    }
+
+    @Test
+    void readersNeverMissRecordWhileItIsReplaced() throws InterruptedException {
+        EmployeeTable table = new EmployeeTable();
+        table.put(new EmployeeRecord(7, "Version 0", "IT"));
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                EmployeeRecord record = table.get(7);
+                if (record == null || !record.name().startsWith("Version ")) {
+                    failure.compareAndSet(null, "Unexpected record " + record);
+                }
+            }
+        });
+        reader.start();
+        for (int version = 1; version <= 100_000; version++) {
+            table.put(new EmployeeRecord(7, "Version " + version, "IT"));
+            // Unrelated inserts force resizes while the record is being replaced
+            table.put(new EmployeeRecord(1_000_000 + version, "Other", "IT"));
+        }
+        done.set(true);
+        reader.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(failure.get()).isNull();
+        assertThat(table.get(7).name()).isEqualTo("Version 100000");
+    }
+
+    /**
+     * Retained size of 100k records as the directory loads them: a fresh name string per
+     * employee and shared, interned department strings. About 10 MB on a 64-bit JVM with
+     * compressed oops.
+     */
+    @Test
+    void footprintPerHundredThousandEmployees() {
+        EmployeeTable table = new EmployeeTable();
+        for (int id = 1; id <= 100_000; id++) {
+            String name = new String(FIRST_NAMES[id % FIRST_NAMES.length] + " " + LAST_NAMES[(id / 7) % LAST_NAMES.length]);
+            table.put(new EmployeeRecord(id, name, DEPARTMENTS[id % DEPARTMENTS.length]));
+        }
+
+        long bytes = GraphLayout.parseInstance(table).totalSize();
+        System.out.printf("Employee directory footprint: %d bytes per 100k employees (%.1f MB), capacity %d%n",
+                bytes, bytes / (1024.0 * 1024.0), table.capacity());
+        assertThat(bytes).isLessThan(12L * 1024 * 1024);
+    }
+}
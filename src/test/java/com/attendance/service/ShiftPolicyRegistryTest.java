@@ -0,0 +1,52 @@
+package com.attendance.service;
+
+import com.attendance.config.ShiftPolicyProperties;
+import com.attendance.dto.ShiftRule;
+import com.attendance.exception.InvalidShiftPolicyException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShiftPolicyRegistryTest {
+
+    private final ShiftPolicyRegistry registry = new ShiftPolicyRegistry(properties());
+
+    @Test
+    void configuredDepartmentUsesItsOwnPolicy() {
+        assertThat(registry.policyFor("Support").arrivalOffsetMinutes(LocalTime.of(7, 0))).isZero();
+    }
+
+    @Test
+    void unknownAndNullDepartmentsFallBackToDefaults() {
+        assertThat(registry.policyFor("Unknown").arrivalOffsetMinutes(LocalTime.of(9, 0))).isZero();
+        assertThat(registry.policyFor(null).arrivalOffsetMinutes(LocalTime.of(9, 0))).isZero();
+        assertThat(registry.policyFor(null)).isSameAs(registry.policyFor("Unknown"));
+    }
+
+    @Test
+    void replaceSwapsInTheNewPolicySet() {
+        registry.replace(ShiftPolicyTest.rule(10, 0, 18, 0, 19, 0, 0, 360), Map.of());
+
+        assertThat(registry.policyFor("Support").arrivalOffsetMinutes(LocalTime.of(10, 0))).isZero();
+        assertThat(registry.policyFor(null).arrivalOffsetMinutes(LocalTime.of(10, 0))).isZero();
+    }
+
+    @Test
+    void invalidReplacementKeepsThePreviousPolicies() {
+        assertThatThrownBy(() -> registry.replace(new ShiftRule(),
+                Map.of("Night", ShiftPolicyTest.rule(22, 0, 6, 0, 7, 0, 0, 360))))
+                .isInstanceOf(InvalidShiftPolicyException.class);
+
+        assertThat(registry.policyFor("Support").arrivalOffsetMinutes(LocalTime.of(7, 0))).isZero();
+    }
+
+    private static ShiftPolicyProperties properties() {
+        ShiftPolicyProperties properties = new ShiftPolicyProperties();
+        properties.setDepartments(Map.of("Support", ShiftPolicyTest.rule(7, 0, 15, 0, 16, 0, 30, 360)));
+        return properties;
+    }
+}
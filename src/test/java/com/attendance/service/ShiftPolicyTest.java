@@ -0,0 +1,94 @@
+package com.attendance.service;
+
+import com.attendance.dto.ShiftRule;
+import com.attendance.exception.InvalidShiftPolicyException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShiftPolicyTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 3, 12, 0, 0);
+
+    // 09:00-17:00 shift, overtime after 18:00, 30 minute break once more than 6 hours are worked
+    private final ShiftPolicy policy = ShiftPolicy.compile("test", rule(9, 0, 17, 0, 18, 0, 30, 360));
+
+    @Test
+    void sessionEntirelyBeforeThresholdHasNoOvertime() {
+        assertThat(policy.overtimeMinutes(DAY.withHour(9), DAY.withHour(17).withMinute(59))).isZero();
+        assertThat(policy.isOvertime(LocalTime.of(18, 0))).isFalse();
+    }
+
+    @Test
+    void sessionStraddlingThresholdCountsOnlyTimeAfterIt() {
+        assertThat(policy.overtimeMinutes(DAY.withHour(14), DAY.withHour(19).withMinute(45))).isEqualTo(105);
+        assertThat(policy.isOvertime(LocalTime.of(18, 0, 1))).isTrue();
+    }
+
+    @Test
+    void sessionStartingAfterThresholdCountsInFull() {
+        assertThat(policy.overtimeMinutes(DAY.withHour(19), DAY.withHour(21).withMinute(30))).isEqualTo(150);
+    }
+
+    @Test
+    void timePastMidnightCountsAsOvertime() {
+        // 18:00 to 01:30 the next day
+        assertThat(policy.overtimeMinutes(DAY.withHour(17), DAY.plusDays(1).withHour(1).withMinute(30))).isEqualTo(450);
+    }
+
+    @Test
+    void breakIsDeductedOnlyAboveBreakThreshold() {
+        assertThat(policy.paidMinutes(300)).isEqualTo(300);
+        assertThat(policy.paidMinutes(360)).isEqualTo(360);
+        assertThat(policy.paidMinutes(361)).isEqualTo(331);
+        assertThat(policy.paidMinutes(480)).isEqualTo(450);
+    }
+
+    @Test
+    void arrivalAndDepartureOffsetsAreRelativeToShiftWindow() {
+        assertThat(policy.arrivalOffsetMinutes(LocalTime.of(9, 20))).isEqualTo(20);
+        assertThat(policy.arrivalOffsetMinutes(LocalTime.of(8, 45))).isEqualTo(-15);
+        assertThat(policy.departureOffsetMinutes(LocalTime.of(16, 30))).isEqualTo(-30);
+        assertThat(policy.departureOffsetMinutes(LocalTime.of(17, 10))).isEqualTo(10);
+    }
+
+    @Test
+    void rejectsOvertimeThresholdBeforeShiftEnd() {
+        assertThatThrownBy(() -> ShiftPolicy.compile("early", rule(9, 0, 17, 0, 16, 59, 0, 360)))
+                .isInstanceOf(InvalidShiftPolicyException.class)
+                .hasMessageContaining("overtime threshold");
+    }
+
+    @Test
+    void rejectsShiftStartNotBeforeShiftEnd() {
+        assertThatThrownBy(() -> ShiftPolicy.compile("empty", rule(17, 0, 17, 0, 18, 0, 0, 360)))
+                .isInstanceOf(InvalidShiftPolicyException.class)
+                .hasMessageContaining("shift start must be before shift end");
+        assertThatThrownBy(() -> ShiftPolicy.compile("inverted", rule(18, 0, 9, 0, 18, 0, 0, 360)))
+                .isInstanceOf(InvalidShiftPolicyException.class);
+    }
+
+    @Test
+    void rejectsMissingTimesAndNegativeBreaks() {
+        ShiftRule missing = rule(9, 0, 17, 0, 18, 0, 0, 360);
+        missing.setOvertimeAfter(null);
+        assertThatThrownBy(() -> ShiftPolicy.compile("missing", missing)).isInstanceOf(InvalidShiftPolicyException.class);
+        assertThatThrownBy(() -> ShiftPolicy.compile("negative", rule(9, 0, 17, 0, 18, 0, -5, 360)))
+                .isInstanceOf(InvalidShiftPolicyException.class);
+    }
+
+    static ShiftRule rule(int startHour, int startMinute, int endHour, int endMinute,
+                          int overtimeHour, int overtimeMinute, int breakMinutes, int breakAfterMinutes) {
+        ShiftRule rule = new ShiftRule();
+        rule.setShiftStart(LocalTime.of(startHour, startMinute));
+        rule.setShiftEnd(LocalTime.of(endHour, endMinute));
+        rule.setOvertimeAfter(LocalTime.of(overtimeHour, overtimeMinute));
+        rule.setBreakMinutes(breakMinutes);
+        rule.setBreakAfterMinutes(breakAfterMinutes);
+        return rule;
+    }
+}
@@ -0,0 +1,73 @@
+package com.attendance.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final int EMPLOYEES = 300_000;
+
+    @Test
+    void sameIdAlwaysMapsToSameShard() {
+        ConsistentHashRing ring = new ConsistentHashRing(3, VIRTUAL_NODES);
+        ConsistentHashRing rebuilt = new ConsistentHashRing(3, VIRTUAL_NODES);
+
+        for (long id = 1; id <= 10_000; id++) {
+            assertThat(rebuilt.shardFor(id)).isEqualTo(ring.shardFor(id));
+        }
+    }
+
+    @Test
+    void singleShardTakesEverything() {
+        ConsistentHashRing ring = new ConsistentHashRing(1, VIRTUAL_NODES);
+
+        for (long id = -1_000; id <= 1_000; id++) {
+            assertThat(ring.shardFor(id)).isZero();
+        }
+        assertThat(ring.shardFor(Long.MIN_VALUE)).isZero();
+        assertThat(ring.shardFor(Long.MAX_VALUE)).isZero();
+    }
+
+    @Test
+    void sequentialIdsSpreadEvenlyAcrossShards() {
+        int shardCount = 3;
+        ConsistentHashRing ring = new ConsistentHashRing(shardCount, VIRTUAL_NODES);
+        int[] counts = new int[shardCount];
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            counts[ring.shardFor(id)]++;
+        }
+
+        int expected = EMPLOYEES / shardCount;
+        for (int count : counts) {
+            assertThat(count).isBetween((int) (expected * 0.8), (int) (expected * 1.2));
+        }
+    }
+
+    @Test
+    void appendingShardOnlyMovesIdsToTheNewShard() {
+        ConsistentHashRing before = new ConsistentHashRing(3, VIRTUAL_NODES);
+        ConsistentHashRing after = new ConsistentHashRing(4, VIRTUAL_NODES);
+
+        int moved = 0;
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            int oldShard = before.shardFor(id);
+            int newShard = after.shardFor(id);
+            if (oldShard != newShard) {
+                assertThat(newShard).as("new shard of employee %d", id).isEqualTo(3);
+                moved++;
+            }
+        }
+
+        // Roughly a quarter of the ids belong on the fourth shard
+        assertThat((double) moved / EMPLOYEES).isBetween(0.15, 0.35);
+    }
+
+    @Test
+    void rejectsNonPositiveSizes() {
+        assertThatThrownBy(() -> new ConsistentHashRing(0, VIRTUAL_NODES)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConsistentHashRing(2, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}